@@ -0,0 +1,13 @@
+/**
+ * Callback for components that need to react when an internship application
+ * changes (e.g. indexes kept by ApplicationManager, the storage engine).
+ * Listeners registered on ApplicationManager also hear about additions.
+ */
+public interface ApplicationListener {
+    void onStatusChanged(InternshipApplication app, ApplicationStatus oldStatus, ApplicationStatus newStatus);
+
+    // Remarks or previous status changed
+    default void onDetailsChanged(InternshipApplication app) {}
+
+    default void onAdded(InternshipApplication app) {}
+}
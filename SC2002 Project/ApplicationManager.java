@@ -1,24 +1,133 @@
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
+/**
+ * Thread-safe store of internship applications. Same layout as OpportunityManager:
+ * lock-free PostingLists keyed by insertion sequence, with the status index moved
+ * by the application's status listener (which runs under its opportunity's lock).
+ */
 public class ApplicationManager {
-    private final List<InternshipApplication> applications = new ArrayList<>();
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final Map<InternshipApplication, Long> sequenceOf = new ConcurrentHashMap<>();
+    private final PostingList<InternshipApplication> applications = new PostingList<>();
+
+    // ---- Indexes (kept in sync on add and on every status change) ----
+    private final Map<String, InternshipApplication> byID = new ConcurrentHashMap<>();
+    private final Map<InternshipOpportunity, PostingList<InternshipApplication>> byOpportunity =
+            new ConcurrentHashMap<>();
+    private final Map<Student, PostingList<InternshipApplication>> byStudent = new ConcurrentHashMap<>();
+    private final Map<ApplicationStatus, PostingList<InternshipApplication>> byStatus =
+            new EnumMap<>(ApplicationStatus.class);
+
+    private final List<ApplicationListener> listeners = new CopyOnWriteArrayList<>();
+
+    private static final PostingList<InternshipApplication> EMPTY = new PostingList<>();
+
+    // Registered on every stored application: keeps the status index current and
+    // forwards the change to the manager's own listeners
+    private final ApplicationListener entityListener = new ApplicationListener() {
+        @Override
+        public void onStatusChanged(InternshipApplication app, ApplicationStatus oldStatus,
+                                    ApplicationStatus newStatus) {
+            Long seq = sequenceOf.get(app);
+            if (seq != null) {
+                byStatus.get(oldStatus).remove(seq);
+                byStatus.get(newStatus).add(seq, app);
+            }
+            for (ApplicationListener l : listeners) {
+                l.onStatusChanged(app, oldStatus, newStatus);
+            }
+        }
+
+        @Override
+        public void onDetailsChanged(InternshipApplication app) {
+            for (ApplicationListener l : listeners) {
+                l.onDetailsChanged(app);
+            }
+        }
+    };
+
+    public ApplicationManager() {
+        // Filled once here and only read afterwards, so the EnumMap needs no locking
+        for (ApplicationStatus s : ApplicationStatus.values()) {
+            byStatus.put(s, new PostingList<>());
+        }
+    }
 
     public void addApplication(InternshipApplication app) {
-        applications.add(app);
+        if (app == null) return;
+        long seq = nextSequence.incrementAndGet();
+        if (sequenceOf.putIfAbsent(app, seq) != null) return; // already stored
+        applications.add(seq, app);
+        byID.putIfAbsent(app.getApplicationID(), app);
+        byOpportunity.computeIfAbsent(app.getOpportunity(), k -> new PostingList<>()).add(seq, app);
+        byStudent.computeIfAbsent(app.getStudent(), k -> new PostingList<>()).add(seq, app);
+        // Status index and listener together under the opportunity's lock (it guards the status)
+        synchronized (app.getOpportunity().lock()) {
+            byStatus.get(app.getStatus()).add(seq, app);
+            app.addListener(entityListener);
+        }
+        for (ApplicationListener l : listeners) {
+            l.onAdded(app);
+        }
+    }
+
+    // Listeners hear about additions and every later change
+    public void addListener(ApplicationListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
     }
 
+    // Point-in-time copy in insertion order
     public List<InternshipApplication> getAllApplications() {
-        return applications;
+        return applications.snapshot();
+    }
+
+    public InternshipApplication findByID(String id) {
+        if (id == null) return null;
+        return byID.get(id.trim());
     }
 
     public List<InternshipApplication> getApplicationsForOpportunity(InternshipOpportunity opp) {
-        List<InternshipApplication> result = new ArrayList<>();
-        for (InternshipApplication app : applications) {
-            if (app.getOpportunity() == opp) {
-                result.add(app);
-            }
-        }
-        return result;
+        PostingList<InternshipApplication> apps = byOpportunity.get(opp);
+        return apps == null ? new ArrayList<>() : apps.snapshot();
+    }
+
+    public List<InternshipApplication> getApplicationsForStudent(Student student) {
+        PostingList<InternshipApplication> apps = byStudent.get(student);
+        return apps == null ? new ArrayList<>() : apps.snapshot();
+    }
+
+    // Cost is proportional to the number of matching applications, not the total
+    public List<InternshipApplication> getApplicationsByStatus(ApplicationStatus status) {
+        return byStatus.get(status).snapshot();
+    }
+
+    // ---- Paging: keyset pages in insertion order (see Page) ----
+
+    public Page<InternshipApplication> pageForOpportunity(InternshipOpportunity opp, Page.Cursor after, int size) {
+        return pageForOpportunity(opp, after, size, null);
+    }
+
+    // Only applications the filter accepts (null for all); pages stay full-size
+    public Page<InternshipApplication> pageForOpportunity(InternshipOpportunity opp, Page.Cursor after, int size,
+                                                          Predicate<? super InternshipApplication> filter) {
+        PostingList<InternshipApplication> apps = byOpportunity.getOrDefault(opp, EMPTY);
+        return apps.page(after, size, filter);
+    }
+
+    public Page<InternshipApplication> pageByStatus(ApplicationStatus status, Page.Cursor after, int size) {
+        return byStatus.get(status).page(after, size, null);
+    }
+
+    public int countByStatus(ApplicationStatus status) {
+        return byStatus.get(status).size();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * Career Center rules under which a new posting is approved without waiting for
+ * staff: every enabled condition must hold. Immutable; the conditions are compiled
+ * into one predicate when the rules are created, so checking a posting is only
+ * the enabled tests. Shared through OpportunityManager and saved in
+ * data/auto-approval.properties.
+ */
+public final class AutoApprovalRules {
+
+    public static final AutoApprovalRules OFF = new AutoApprovalRules(false, false, Set.of(), 0);
+
+    private final boolean enabled;
+    private final boolean approvedRepOnly;
+    private final Set<String> allowedMajors;   // case-insensitive; empty = any major
+    private final int maxSlots;                // 0 = any number of slots
+    private final BiPredicate<CompanyRepresentative, InternshipOpportunity> compiled;
+
+    public AutoApprovalRules(boolean enabled, boolean approvedRepOnly,
+                             Collection<String> allowedMajors, int maxSlots) {
+        this.enabled = enabled;
+        this.approvedRepOnly = approvedRepOnly;
+        this.allowedMajors = Collections.unmodifiableSet(allowedMajors.stream()
+                .map(String::trim)
+                .filter(m -> !m.isEmpty())
+                .collect(Collectors.toCollection(() -> new TreeSet<>(String.CASE_INSENSITIVE_ORDER))));
+        this.maxSlots = Math.max(0, maxSlots);
+        this.compiled = compile();
+    }
+
+    // Only the enabled conditions end up in the predicate
+    private BiPredicate<CompanyRepresentative, InternshipOpportunity> compile() {
+        if (!enabled) {
+            return (rep, opp) -> false;
+        }
+        List<BiPredicate<CompanyRepresentative, InternshipOpportunity>> tests = new ArrayList<>();
+        if (approvedRepOnly) {
+            tests.add((rep, opp) -> rep != null && rep.isApproved());
+        }
+        if (!allowedMajors.isEmpty()) {
+            Set<String> majors = allowedMajors;
+            tests.add((rep, opp) -> majors.contains(opp.getPreferredMajor()));
+        }
+        if (maxSlots > 0) {
+            int limit = maxSlots;
+            tests.add((rep, opp) -> opp.getTotalSlots() <= limit);
+        }
+        return tests.stream().reduce((rep, opp) -> true, BiPredicate::and);
+    }
+
+    /** True if the posting, created by rep (null if unknown), may skip staff approval. */
+    public boolean admits(CompanyRepresentative rep, InternshipOpportunity opp) {
+        return compiled.test(rep, opp);
+    }
+
+    public boolean isEnabled()            { return enabled; }
+    public boolean isApprovedRepOnly()    { return approvedRepOnly; }
+    public Set<String> getAllowedMajors() { return allowedMajors; }
+    public int getMaxSlots()              { return maxSlots; }
+
+    @Override
+    public String toString() {
+        if (!enabled) {
+            return "Off (every new posting waits for staff approval)";
+        }
+        return "On | Approved reps only: " + (approvedRepOnly ? "yes" : "no")
+                + " | Majors: " + (allowedMajors.isEmpty() ? "any" : String.join(", ", allowedMajors))
+                + " | Max slots: " + (maxSlots == 0 ? "any" : maxSlots);
+    }
+
+    // ========== SAVED RULES ==========
+
+    public static Path defaultFile() {
+        return Path.of(System.getProperty("ims.dataDir", "data"), "auto-approval.properties");
+    }
+
+    /** Rules saved in file, or OFF if there is none yet. */
+    public static AutoApprovalRules load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return OFF;
+        }
+        Properties props = new Properties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(in);
+        }
+        String majors = props.getProperty("allowedMajors", "");
+        try {
+            return new AutoApprovalRules(
+                    Boolean.parseBoolean(props.getProperty("enabled", "false")),
+                    Boolean.parseBoolean(props.getProperty("approvedRepOnly", "true")),
+                    majors.isBlank() ? List.of() : Arrays.asList(majors.split(",")),
+                    Integer.parseInt(props.getProperty("maxSlots", "0").trim()));
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid maxSlots in " + file + ": " + e.getMessage());
+        }
+    }
+
+    public void save(Path file) throws IOException {
+        Properties props = new Properties();
+        props.setProperty("enabled", Boolean.toString(enabled));
+        props.setProperty("approvedRepOnly", Boolean.toString(approvedRepOnly));
+        props.setProperty("allowedMajors", String.join(",", allowedMajors));
+        props.setProperty("maxSlots", Integer.toString(maxSlots));
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            props.store(out, "Internship auto-approval rules");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Checks that a company rep's batch review cannot undo a confirmed placement.
+ *
+ * A posting holds one CONFIRMED application next to PENDING and SUCCESSFUL ones; the
+ * rep selects every application and rejects (then approves) them all. The confirmed
+ * one must be skipped with INVALID_STATE, keep its slot and stay the student's
+ * accepted placement, while the others are decided as usual.
+ *
+ *   java -cp target/classes BatchReviewTestMain
+ */
+public class BatchReviewTestMain {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        CompanyRepresentative rep = new CompanyRepresentative("rep@acme.com", "Rep", "rep@acme.com",
+                "Acme", "HR", "Recruiter");
+        InternshipService service = new InternshipService(new UserManager(), new OpportunityManager(),
+                new ApplicationManager());
+
+        InternshipOpportunity opp = opportunity("BATCH-1", 2);
+        InternshipOpportunity other = opportunity("BATCH-2", 1);
+
+        Student placed = student(1);
+        InternshipApplication confirmed = apply("A1", placed, opp, ApplicationStatus.SUCCESSFUL);
+        InternshipApplication elsewhere = apply("A2", placed, other, ApplicationStatus.PENDING);
+        check(placed.confirmOffer(confirmed).isOk(), "could not confirm the first offer");
+        check(elsewhere.getStatus() == ApplicationStatus.WITHDRAWN, "other application not withdrawn on confirm");
+
+        InternshipApplication pending = apply("A3", student(2), opp, ApplicationStatus.PENDING);
+        InternshipApplication offered = apply("A4", student(3), opp, ApplicationStatus.SUCCESSFUL);
+
+        int claimed = opp.getClaimedSlots();
+        int available = opp.getSlotsAvailable();
+        List<InternshipApplication> all = List.of(confirmed, pending, offered);
+
+        for (boolean approve : new boolean[] {false, true}) {
+            String action = approve ? "approve" : "reject";
+            List<InternshipService.Decision> decisions = service.decideApplications(rep, all, approve, "batch");
+
+            InternshipService.Decision onConfirmed = decisions.get(0);
+            check(onConfirmed.result().getStatus() == OperationResult.Status.INVALID_STATE,
+                    action + ": confirmed application gave " + onConfirmed.result());
+            check(confirmed.getStatus() == ApplicationStatus.CONFIRMED,
+                    action + ": confirmed application is now " + confirmed.getStatus());
+            check(placed.getAcceptedPlacement() == confirmed, action + ": accepted placement changed");
+            check(elsewhere.getStatus() == ApplicationStatus.WITHDRAWN,
+                    action + ": other application is now " + elsewhere.getStatus());
+            check(opp.getClaimedSlots() == claimed,
+                    action + ": claimed slots " + opp.getClaimedSlots() + ", expected " + claimed);
+            check(opp.getSlotsAvailable() == available,
+                    action + ": slots available " + opp.getSlotsAvailable() + ", expected " + available);
+
+            ApplicationStatus expected = approve ? ApplicationStatus.SUCCESSFUL : ApplicationStatus.UNSUCCESSFUL;
+            check(decisions.get(1).result().isOk() && pending.getStatus() == expected,
+                    action + ": pending application is " + pending.getStatus());
+            check(decisions.get(2).result().isOk() && offered.getStatus() == expected,
+                    action + ": offered application is " + offered.getStatus());
+        }
+
+        System.out.println(failures == 0
+                ? "Batch review left the confirmed placement untouched."
+                : failures + " check(s) FAILED.");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static InternshipOpportunity opportunity(String id, int slots) {
+        InternshipOpportunity opp = new InternshipOpportunity(id, "Batch " + id, "",
+                InternshipLevel.BASIC, "Computer Science", "Acme", "rep@acme.com", slots,
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(30));
+        opp.setStatus(OpportunityStatus.APPROVED);
+        opp.setVisible(true);
+        return opp;
+    }
+
+    private static Student student(int i) {
+        return new Student(String.format("U%07dB", i), "Student " + i, "Computer Science", 2,
+                "b" + i + "@e.ntu.edu.sg");
+    }
+
+    private static InternshipApplication apply(String id, Student s, InternshipOpportunity opp,
+                                               ApplicationStatus status) {
+        InternshipApplication app = new InternshipApplication(id, s, opp, status, LocalDate.now());
+        s.getApplications().add(app);
+        opp.addApplication(app);
+        return app;
+    }
+
+    private static void check(boolean ok, String message) {
+        if (!ok) {
+            failures++;
+            System.out.println(message);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Parallel CSV loading for large rosters.
+ *
+ * A file is cut into chunks of about CHUNK_BYTES at line boundaries (never inside a
+ * quoted field), each chunk is parsed by CsvReader on a ForkJoinPool, and the chunk
+ * results are concatenated in file order so the outcome matches a sequential load.
+ * Rows the mapper rejects are skipped and listed in the result's ImportReport.
+ */
+public class BulkLoader {
+
+    private static final long CHUNK_BYTES = Long.getLong("ims.bulkChunkBytes", 8L << 20);
+    private static final long SCAN_WINDOW = 64L << 20;
+
+    /** Rows parsed from one file plus timing, for the startup report. */
+    public static class Result<T> {
+        private final String file;
+        private final List<T> items;
+        private final ImportReport report;
+        private final long elapsedNanos;
+
+        Result(String file, List<T> items, ImportReport report, long elapsedNanos) {
+            this.file = file;
+            this.items = items;
+            this.report = report;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public String getFile()         { return file; }
+        public List<T> getItems()       { return items; }
+        public ImportReport getReport() { return report; }
+        public long getElapsedNanos()   { return elapsedNanos; }
+
+        public double rowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : items.size() * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+
+    private BulkLoader() {}
+
+    /** Task that loads one file; invoke several with ForkJoinTask.invokeAll to load them concurrently. */
+    public static <T> RecursiveTask<Result<T>> task(String file, Function<CsvRow, T> mapper) {
+        return new FileTask<>(file, mapper);
+    }
+
+    public static <T> Result<T> load(String file, Function<CsvRow, T> mapper, ForkJoinPool pool) {
+        return pool.invoke(task(file, mapper));
+    }
+
+    // ===================== TASKS =====================
+
+    private static class FileTask<T> extends RecursiveTask<Result<T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final String file;
+        private final Function<CsvRow, T> mapper;
+
+        FileTask(String file, Function<CsvRow, T> mapper) {
+            this.file = file;
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected Result<T> compute() {
+            long started = System.nanoTime();
+            ImportReport report = new ImportReport(file);
+            Path path = Path.of(file);
+            if (!Files.exists(path)) {
+                System.out.println("Error reading: " + file + " (file not found)");
+                return new Result<>(file, List.of(), report, 0);
+            }
+
+            List<ChunkTask<T>> chunks = new ArrayList<>();
+            try {
+                for (long[] c : split(path, CHUNK_BYTES)) {
+                    chunks.add(new ChunkTask<>(path, c[0], c[1], c[2], c[0] == 0, mapper, report));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading: " + file, e);
+            }
+            invokeAll(chunks);
+
+            int total = 0;
+            for (ChunkTask<T> c : chunks) {
+                total += c.join().size();
+            }
+            List<T> items = new ArrayList<>(total);
+            for (ChunkTask<T> c : chunks) {
+                items.addAll(c.join());
+            }
+            report.imported(items.size());
+            return new Result<>(file, items, report, System.nanoTime() - started);
+        }
+    }
+
+    private static class ChunkTask<T> extends RecursiveTask<List<T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Path path;
+        private final long start;
+        private final long end;
+        private final long firstLine;
+        private final boolean skipHeader;
+        private final Function<CsvRow, T> mapper;
+        private final ImportReport report;
+
+        ChunkTask(Path path, long start, long end, long firstLine, boolean skipHeader,
+                  Function<CsvRow, T> mapper, ImportReport report) {
+            this.path = path;
+            this.start = start;
+            this.end = end;
+            this.firstLine = firstLine;
+            this.skipHeader = skipHeader;
+            this.mapper = mapper;
+            this.report = report;
+        }
+
+        @Override
+        protected List<T> compute() {
+            // Rough guess of ~64 bytes per row avoids most regrowth
+            List<T> out = new ArrayList<>((int) Math.min(Integer.MAX_VALUE - 8, (end - start) / 64 + 1));
+            try {
+                CsvReader.stream(path, start, end, firstLine, skipHeader, row -> {
+                    try {
+                        out.add(mapper.apply(row));
+                    } catch (RuntimeException e) {
+                        // Bad row: record it with its line number and keep going
+                        report.skip(row.getLineNumber(), e.getMessage());
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading: " + path, e);
+            }
+            return out;
+        }
+    }
+
+    // ===================== SPLITTING =====================
+
+    /**
+     * Returns {start, end, firstLine} triples covering the file. Boundaries are placed just
+     * after the first newline past each chunkSize step that is not inside quotes.
+     */
+    static List<long[]> split(Path path, long chunkSize) throws IOException {
+        List<long[]> chunks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size <= chunkSize) {
+                chunks.add(new long[] {0, size, 1});
+                return chunks;
+            }
+
+            long chunkStart = 0;
+            long chunkLine = 1;
+            long nextTarget = chunkSize;
+            long line = 1;
+            boolean inQuotes = false;
+
+            for (long base = 0; base < size; base += SCAN_WINDOW) {
+                long windowSize = Math.min(SCAN_WINDOW, size - base);
+                MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, base, windowSize);
+                for (int i = 0; i < windowSize; i++) {
+                    byte b = buf.get(i);
+                    if (b == '"') {
+                        inQuotes = !inQuotes; // "" escapes toggle twice and cancel out
+                    } else if (b == '\n') {
+                        line++;
+                        long pos = base + i + 1;
+                        if (!inQuotes && pos >= nextTarget && pos < size) {
+                            chunks.add(new long[] {chunkStart, pos, chunkLine});
+                            chunkStart = pos;
+                            chunkLine = line;
+                            nextTarget = pos + chunkSize;
+                        }
+                    }
+                }
+            }
+            chunks.add(new long[] {chunkStart, size, chunkLine});
+        }
+        return chunks;
+    }
+}
@@ -1,6 +1,6 @@
 public class CareerCenterStaff extends User implements HasMenu {
 
-    private String department;
+    private volatile String department;
 
     public CareerCenterStaff(String userID, String name, String email, String department) {
         super(userID, name, email);
@@ -13,6 +13,7 @@ public class CareerCenterStaff extends User implements HasMenu {
 
     public void setDepartment(String department) {
         this.department = department.trim();
+        fireChanged();
     }
 
     @Override
@@ -22,23 +23,11 @@ public class CareerCenterStaff extends User implements HasMenu {
         System.out.println("2. Approve Internship Opportunities");
         System.out.println("3. Manage Withdrawal Requests");
         System.out.println("4. Generate Internship Reports");  
-        System.out.println("5. Change Password");
-        System.out.println("6. Logout");
-    }
-
-    public void approveRepresentative(CompanyRepresentative rep) {
-        rep.setApproved(true);
-        System.out.println("Approved company representative: " + rep.getName());
-    }
-
-    public void approveOpportunity(InternshipOpportunity opp) {
-        opp.setStatus(OpportunityStatus.APPROVED);
-        System.out.println("Approved internship: " + opp.getTitle());
-    }
-
-    public void rejectOpportunity(InternshipOpportunity opp) {
-        opp.setStatus(OpportunityStatus.REJECTED);
-        System.out.println("Rejected internship: " + opp.getTitle());
+        System.out.println("5. View Dashboard Summary");
+        System.out.println("6. View Performance Metrics");
+        System.out.println("7. Import / Export CSV Data");
+        System.out.println("8. Change Password");
+        System.out.println("9. Logout");
     }
 
     @Override
@@ -0,0 +1,61 @@
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retires postings from student browsing once their closing date has passed.
+ *
+ * One daemon thread wakes up just after each local midnight and calls
+ * OpportunityManager.expireClosed, so the work is done once per day rollover instead
+ * of on every student query. The next wake-up is recomputed each time, which keeps it
+ * on midnight across daylight-saving changes. It runs on the manager's clock, the same
+ * date source the eligibility index checks closing dates against.
+ */
+public class ClosingDateScheduler implements AutoCloseable {
+
+    private final OpportunityManager opportunityManager;
+    private final Clock clock;
+    private final ScheduledExecutorService timer;
+
+    public ClosingDateScheduler(OpportunityManager opportunityManager) {
+        this.opportunityManager = opportunityManager;
+        this.clock = opportunityManager.getClock();
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "closing-date-expiry");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Retires anything already closed, then keeps running at every midnight. */
+    public void start() {
+        opportunityManager.expireClosed(LocalDate.now(clock));
+        scheduleNextRollover();
+    }
+
+    private void scheduleNextRollover() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        long delay = Math.max(1, Duration.between(now, midnight).toMillis());
+        timer.schedule(this::rollover, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void rollover() {
+        try {
+            opportunityManager.expireClosed(LocalDate.now(clock));
+        } catch (RuntimeException e) {
+            System.out.println("Closing-date expiry failed: " + e.getMessage());
+        } finally {
+            scheduleNextRollover();
+        }
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+}
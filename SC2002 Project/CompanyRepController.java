@@ -1,14 +1,22 @@
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
 
 public class CompanyRepController extends UserController{
 
     private static final DateTimeFormatter DATE_FMT =
             DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    // Skipped applications listed by name after a batch decision; the rest are counted
+    private static final int MAX_SKIPPED_SHOWN = 20;
+
     public CompanyRepController(Scanner scanner,
                             UserManager userManager,
                             OpportunityManager opportunityManager,
@@ -83,8 +91,7 @@ public class CompanyRepController extends UserController{
 
         String newId = email;
 
-        User existing = userManager.findUserByID(newId);
-        if (existing != null) {
+        if (userManager.containsUserID(newId)) {
             System.out.println("\nA user with this email/User ID already exists.");
             System.out.println("If you forgot your password, please contact the Career Center Staff.");
             return;
@@ -94,7 +101,11 @@ public class CompanyRepController extends UserController{
                 new CompanyRepresentative(newId, name, email, company, department, position);
 
         rep.setApproved(false);
-        userManager.addRepresentative(rep);
+        // Another session may have taken the ID since the check above
+        if (!userManager.registerRepresentative(rep)) {
+            System.out.println("\nA user with this email/User ID already exists.");
+            return;
+        }
 
         System.out.println("\nRegistration submitted!");
         System.out.println("Your User ID: " + newId);
@@ -107,6 +118,7 @@ public class CompanyRepController extends UserController{
     private void handleCompanyRepMenu(CompanyRepresentative rep) {
         int choice;
         do {
+            showNotifications(rep);
             rep.displayMenu();
             System.out.print("Enter choice: ");
             choice = readInt();
@@ -132,8 +144,15 @@ public class CompanyRepController extends UserController{
         }
 
         System.out.println("\n===== Create Internship Opportunity =====");
-        System.out.print("Enter internship ID: ");
+        System.out.print("Enter internship ID (leave blank to auto-generate): ");
         String id = scanner.nextLine().trim();
+        if (id.isEmpty()) {
+            id = InternshipOpportunity.generateID();
+            System.out.println("Generated internship ID: " + id);
+        } else if (opportunityManager.findByID(id) != null) {
+            System.out.println("An internship with this ID already exists.");
+            return;
+        }
 
         System.out.print("Enter title: ");
         String title = scanner.nextLine().trim();
@@ -195,6 +214,10 @@ public class CompanyRepController extends UserController{
         boolean created = rep.createInternship(opp);
         if (created) {
             opportunityManager.addOpportunity(opp);
+            OperationResult<InternshipOpportunity> approval = service.autoApprove(rep, opp);
+            if (approval.isOk()) {
+                System.out.println(approval.getMessage());
+            }
         }
     }
 
@@ -216,19 +239,32 @@ public class CompanyRepController extends UserController{
             return;
         }
    
-        List<InternshipApplication> apps = opp.getApplications();
-        if (apps.isEmpty()) {
+        if (opp.getApplicationCount() == 0) {
             System.out.println("No applications yet.");
             return;
         }
 
+        System.out.println("1. Review applications one at a time");
+        System.out.println("2. Batch review (filter, select several, decide once)");
+        System.out.println("3. Back");
+        System.out.print("Enter choice: ");
+        switch (readInt()) {
+            case 1 -> reviewApplicationsOneByOne(rep, opp);
+            case 2 -> batchReviewApplications(rep, opp);
+            case 3 -> { }
+            default -> System.out.println("Invalid choice.");
+        }
+    }
+
+    private void reviewApplicationsOneByOne(CompanyRepresentative rep, InternshipOpportunity opp) {
         while (true) {
             System.out.println("\n===== Applications for " + opp.getTitle() + " =====");
-            for (int i = 0; i < apps.size(); i++) {
-                InternshipApplication app = apps.get(i);
-                System.out.printf("%d. %s | Status: %s%n", i + 1, app.getApplicationID(), app.getStatus());
-                System.out.println("   " + app);
-            }
+            List<InternshipApplication> apps = pageThrough(
+                    after -> applicationManager.pageForOpportunity(opp, after, PAGE_SIZE),
+                    (position, app) -> {
+                        System.out.printf("%d. %s | Status: %s%n", position, app.getApplicationID(), app.getStatus());
+                        System.out.println("   " + app);
+                    });
 
             System.out.print("Enter application number to approve/reject (0 to go back): ");
             int choice = readInt();
@@ -242,41 +278,23 @@ public class CompanyRepController extends UserController{
 
             InternshipApplication selected = apps.get(choice - 1);
 
-            ApplicationStatus st = selected.getStatus(); 
-
-            if (st == ApplicationStatus.WITHDRAWN) {   
-                System.out.println("This application has been withdrawn by the student and can no longer be approved or rejected.");
+            ApplicationStatus st = selected.getStatus();
+            if (st == ApplicationStatus.WITHDRAWN || st == ApplicationStatus.WITHDRAW_REQUESTED) {
+                // Not decidable; the service says why
+                System.out.println(service.decideApplication(rep, selected, false, null).getMessage());
                 continue;
             }
 
-            if (st == ApplicationStatus.WITHDRAW_REQUESTED) { 
-                System.out.println("The student has requested to withdraw this application. "
-                                 + "It is pending review by Career Center Staff and cannot be approved or rejected.");
-                continue;
-            }
-            
             System.out.println("1. Approve application");
             System.out.println("2. Reject application");
             System.out.println("3. Back");
             System.out.print("Enter choice: ");
             int action = readInt();
 
-            if (action == 1) {
-                selected.setStatus(ApplicationStatus.SUCCESSFUL);
-                System.out.print("Optional remarks (leave blank to skip): ");
-                String remarks = scanner.nextLine();
-                if (!remarks.trim().isEmpty()) {
-                    selected.setRemarks(remarks);
-                }
-                System.out.println("Application " + selected.getApplicationID() + " approved.");
-            } else if (action == 2) {
-                selected.setStatus(ApplicationStatus.UNSUCCESSFUL);
+            if (action == 1 || action == 2) {
                 System.out.print("Optional remarks (leave blank to skip): ");
                 String remarks = scanner.nextLine();
-                if (!remarks.trim().isEmpty()) {
-                    selected.setRemarks(remarks);
-                }
-                System.out.println("Application " + selected.getApplicationID() + " rejected.");
+                System.out.println(service.decideApplication(rep, selected, action == 1, remarks).getMessage());
             } else if (action == 3) {
                 // Just loop again
             } else {
@@ -285,6 +303,196 @@ public class CompanyRepController extends UserController{
         }
     }
 
+    // Large applicant pools: list with a filter, pick many by number, apply one decision
+    // to all of them, then print only what changed (the list is re-shown on request)
+    private void batchReviewApplications(CompanyRepresentative rep, InternshipOpportunity opp) {
+        ApplicationFilter filter = readApplicationFilter();
+        List<InternshipApplication> shown = listApplications(opp, filter);
+
+        while (true) {
+            System.out.print("\nSelect applications (e.g. 1-5,8 or all), l to list again, "
+                    + "f to change filter, 0 to go back: ");
+            String input = scanner.nextLine().trim();
+            if (input.equals("0")) {
+                return;
+            }
+            if (input.equalsIgnoreCase("l")) {
+                shown = listApplications(opp, filter);
+                continue;
+            }
+            if (input.equalsIgnoreCase("f")) {
+                filter = readApplicationFilter();
+                shown = listApplications(opp, filter);
+                continue;
+            }
+
+            List<InternshipApplication> selected = select(input, shown);
+            if (selected == null) {
+                System.out.println("Invalid selection. Use numbers from the list, ranges like 3-7, or all.");
+                continue;
+            }
+
+            // Withdrawn, withdrawal-requested and confirmed applications are past the rep's decision
+            List<InternshipApplication> undecidable = new ArrayList<>();
+            selected.removeIf(app -> !InternshipService.isDecidable(app.getStatus()) && undecidable.add(app));
+            if (!undecidable.isEmpty()) {
+                System.out.println("Skipping " + undecidable.size() + " application(s) that can no longer be decided:");
+                int limit = Math.min(undecidable.size(), MAX_SKIPPED_SHOWN);
+                for (int i = 0; i < limit; i++) {
+                    InternshipApplication app = undecidable.get(i);
+                    System.out.println("  " + app.getApplicationID() + " (" + app.getStudent().getName()
+                            + "): " + app.getStatus());
+                }
+                if (undecidable.size() > limit) {
+                    System.out.println("  ... and " + (undecidable.size() - limit) + " more");
+                }
+            }
+            if (selected.isEmpty()) {
+                System.out.println("Nothing left to decide in this selection.");
+                continue;
+            }
+
+            System.out.println(selected.size() + " application(s) selected.");
+            System.out.println("1. Approve selected");
+            System.out.println("2. Reject selected");
+            System.out.println("3. Cancel");
+            System.out.print("Enter choice: ");
+            int action = readInt();
+            if (action == 3) {
+                continue;
+            }
+            if (action != 1 && action != 2) {
+                System.out.println("Invalid choice.");
+                continue;
+            }
+
+            System.out.print("Remarks for all selected (leave blank to skip): ");
+            String remarks = scanner.nextLine();
+            printDecisionSummary(service.decideApplications(rep, selected, action == 1, remarks));
+        }
+    }
+
+    // Which applications a batch review lists; null fields match everything
+    private record ApplicationFilter(ApplicationStatus status, Integer year, String major) {
+
+        boolean test(InternshipApplication app) {
+            Student s = app.getStudent();
+            return (status == null || app.getStatus() == status)
+                    && (year == null || s.getYearOfStudy() == year)
+                    && (major == null || s.getMajor().equalsIgnoreCase(major));
+        }
+
+        @Override
+        public String toString() {
+            return "status " + (status == null ? "any" : status)
+                    + ", year " + (year == null ? "any" : year)
+                    + ", major " + (major == null ? "any" : major);
+        }
+    }
+
+    private ApplicationFilter readApplicationFilter() {
+        System.out.print("Status (PENDING / SUCCESSFUL / UNSUCCESSFUL / ALL, Enter for PENDING): ");
+        String statusStr = scanner.nextLine().trim().toUpperCase();
+        ApplicationStatus status = ApplicationStatus.PENDING;
+        if (statusStr.equals("ALL")) {
+            status = null;
+        } else if (!statusStr.isEmpty()) {
+            try {
+                status = ApplicationStatus.valueOf(statusStr);
+            } catch (IllegalArgumentException e) {
+                System.out.println("Unknown status. Showing PENDING applications.");
+            }
+        }
+
+        System.out.print("Year of study (Enter for any): ");
+        String yearStr = scanner.nextLine().trim();
+        Integer year = null;
+        if (!yearStr.isEmpty()) {
+            try {
+                year = Integer.parseInt(yearStr);
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid year. Showing every year.");
+            }
+        }
+
+        System.out.print("Major (Enter for any): ");
+        String major = scanner.nextLine().trim();
+        return new ApplicationFilter(status, year, major.isEmpty() ? null : major);
+    }
+
+    private List<InternshipApplication> listApplications(InternshipOpportunity opp, ApplicationFilter filter) {
+        System.out.println("\n===== Applications for " + opp.getTitle() + " (" + filter + ") =====");
+        List<InternshipApplication> shown = pageThrough(
+                after -> applicationManager.pageForOpportunity(opp, after, PAGE_SIZE, filter::test),
+                (position, app) -> {
+                    Student s = app.getStudent();
+                    System.out.printf("%d. %s | %s (%s, Year %d) | %s%n", position, app.getApplicationID(),
+                            s.getName(), s.getMajor(), s.getYearOfStudy(), app.getStatus());
+                });
+        if (shown.isEmpty()) {
+            System.out.println("No applications match this filter.");
+        }
+        return shown;
+    }
+
+    // "all", or numbers and ranges separated by commas ("1-5,8"); null if any part is invalid
+    private static List<InternshipApplication> select(String input, List<InternshipApplication> shown) {
+        if (input.equalsIgnoreCase("all")) {
+            return shown.isEmpty() ? null : new ArrayList<>(shown);
+        }
+        Set<Integer> positions = new LinkedHashSet<>();
+        for (String part : input.split(",")) {
+            String[] bounds = part.trim().split("\\s*-\\s*", -1);
+            try {
+                int from = Integer.parseInt(bounds[0]);
+                int to = bounds.length == 2 ? Integer.parseInt(bounds[1]) : from;
+                if (bounds.length > 2 || from < 1 || to > shown.size() || from > to) {
+                    return null;
+                }
+                for (int i = from; i <= to; i++) {
+                    positions.add(i);
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        List<InternshipApplication> selected = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            selected.add(shown.get(position - 1));
+        }
+        return selected;
+    }
+
+    // What changed, as counts per transition, plus each application that was skipped and why
+    private static void printDecisionSummary(List<InternshipService.Decision> decisions) {
+        Map<String, Integer> changes = new LinkedHashMap<>();
+        List<InternshipService.Decision> skipped = new ArrayList<>();
+        for (InternshipService.Decision d : decisions) {
+            if (d.result().isOk()) {
+                ApplicationStatus to = d.result().getValue().getStatus();
+                String key = d.from() == to ? "already " + to : d.from() + " -> " + to;
+                changes.merge(key, 1, Integer::sum);
+            } else {
+                skipped.add(d);
+            }
+        }
+
+        System.out.println("\n===== Changes =====");
+        changes.forEach((change, n) -> System.out.printf("  %-30s %d%n", change, n));
+        if (!skipped.isEmpty()) {
+            System.out.println("  Skipped " + skipped.size() + ":");
+            int limit = Math.min(skipped.size(), MAX_SKIPPED_SHOWN);
+            for (int i = 0; i < limit; i++) {
+                InternshipService.Decision d = skipped.get(i);
+                System.out.println("    " + d.application().getApplicationID() + " ("
+                        + d.application().getStudent().getName() + "): " + d.result().getMessage());
+            }
+            if (skipped.size() > limit) {
+                System.out.println("    ... and " + (skipped.size() - limit) + " more");
+            }
+        }
+    }
+
     private void toggleInternshipVisibility(CompanyRepresentative rep) {
         System.out.println("\n===== Manage Your Internships =====");
         rep.viewMyInternships();
@@ -1,34 +1,56 @@
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class CompanyRepLoader {
 
     public static List<CompanyRepresentative> load(String path) {
         List<CompanyRepresentative> reps = new ArrayList<>();
+        ImportReport report = load(path, reps::add);
+        if (report.getSkipped() > 0) {
+            report.print();
+        }
+        return reps;
+    }
 
-        for (String[] row : CsvReader.read(path)) {
-            // CSV columns:
-            // 0 = CompanyRepID
-            // 1 = CompanyRepName
-            // 2 = CompanyRepEmail
-            // 3 = CompanyName
-
-            String id        = row[0].trim();
-            String name      = row[1].trim();
-            String email     = row[2].trim();
-            String company   = row[3].trim();
-
-            // Defaults for missing fields
-            String department = "General";
-            String position   = "Representative";
-
-            CompanyRepresentative rep = new CompanyRepresentative(
-                    id, name, email, company, department, position
-            );
+    // Streams each representative straight to the sink; bad rows are skipped and listed in the report
+    public static ImportReport load(String path, Consumer<CompanyRepresentative> sink) {
+        return CsvReader.stream(path, CompanyRepLoader::fromRow, sink);
+    }
 
-            reps.add(rep);
+    static CompanyRepresentative fromRow(CsvRow row) {
+        // CSV columns (same layout as sample_company_representative_list.csv):
+        // 0 = CompanyRepID (blank -> email)
+        // 1 = Name
+        // 2 = CompanyName
+        // 3 = Department
+        // 4 = Position
+        // 5 = Email
+        // 6 = Status (Approved / Pending / Rejected, blank -> Pending)
+
+        String email      = row.get(5).toLowerCase();
+        String id         = row.get(0).isEmpty() ? email : row.get(0).toLowerCase();
+        String name       = row.get(1);
+        String company    = row.get(2);
+        String department = row.get(3).isEmpty() ? "General" : row.get(3);
+        String position   = row.get(4).isEmpty() ? "Representative" : row.get(4);
+
+        if (company.isEmpty()) {
+            throw new IllegalArgumentException("Company name cannot be blank");
         }
 
-        return reps;
+        CompanyRepresentative rep =
+                new CompanyRepresentative(id, name, email, company, department, position);
+        rep.setApproved(parseApproved(row.get(6)));
+        return rep;
+    }
+
+    static boolean parseApproved(String status) {
+        return switch (status.toUpperCase()) {
+            case "APPROVED" -> true;
+            case "", "PENDING", "REJECTED" -> false;
+            default -> throw new IllegalArgumentException("Unknown status '" + status
+                    + "' (expected Approved, Pending or Rejected)");
+        };
     }
 }
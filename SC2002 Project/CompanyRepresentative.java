@@ -1,13 +1,13 @@
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class CompanyRepresentative extends User implements HasMenu {
-    private String companyName;
+    private volatile String companyName;
     private String department;
     private String position;
-    private boolean approved;
+    private volatile boolean approved;
 
-    private final List<InternshipOpportunity> myInternships = new ArrayList<>();
+    private final List<InternshipOpportunity> myInternships = new CopyOnWriteArrayList<>();
 
     public CompanyRepresentative(String userID,String name,String email,String companyName,String department,String position) {
         super(userID, name, email);
@@ -29,7 +29,8 @@ public class CompanyRepresentative extends User implements HasMenu {
         System.out.println("7. Logout");
     }
 
-    public boolean createInternship(InternshipOpportunity opp) {
+    // Synchronized so two sessions of the same rep cannot both pass the 5-internship check
+    public synchronized boolean createInternship(InternshipOpportunity opp) {
         if (!approved) {
             System.out.println("Your account is not approved yet.");
             return false;
@@ -76,12 +77,26 @@ public class CompanyRepresentative extends User implements HasMenu {
     }
 
     public boolean isApproved()          { return approved; }
-    public void setApproved(boolean a)   { this.approved = a; }
+    public void setApproved(boolean a) {
+        if (this.approved == a) return;
+        this.approved = a;
+        fireChanged();
+    }
     public String getCompanyName()       { return companyName; }
+    public String getDepartment()        { return department; }
+    public String getPosition()          { return position; }
     public List<InternshipOpportunity> getMyInternships() { return myInternships; }
     
     public void setCompanyName(String companyName) {
         this.companyName = companyName;
+        fireChanged();
+    }
+
+    // Re-links an opportunity on restore, bypassing the approval / limit checks
+    synchronized void restoreInternship(InternshipOpportunity opp) {
+        if (opp != null && !myInternships.contains(opp)) {
+            myInternships.add(opp);
+        }
     }
 
     @Override
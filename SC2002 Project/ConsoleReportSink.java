@@ -0,0 +1,51 @@
+import java.io.PrintStream;
+
+/**
+ * Prints a report as fixed-width tables. Per-opportunity rows are left out; the staff
+ * screen pages through those separately so large reports do not flood the console.
+ */
+public class ConsoleReportSink implements ReportSink {
+
+    private static final String GROUP_FMT = "%-30s %6s %6s %8s %8s %8s %9s %7s %7s%n";
+    private static final String VALUE_FMT = "%-30.30s %6d %6d %8d %8d %8d %9d %6.1f%% %6.1f%%%n";
+
+    private final PrintStream out;
+    private ReportEngine.GroupBy currentGroup;
+
+    public ConsoleReportSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void row(InternshipOpportunity opp, int[] counts) {
+        // Not printed: see class comment
+    }
+
+    @Override
+    public void group(ReportEngine.GroupBy by, String key, ReportEngine.Aggregate agg) {
+        if (by != currentGroup) {
+            currentGroup = by;
+            out.printf("%n===== BY %s =====%n", by);
+            out.printf(GROUP_FMT, by, "Opps", "Slots", "Applied", "Pending", "Offered", "Confirmed", "Offer%", "Fill%");
+        }
+        print(key, agg);
+    }
+
+    @Override
+    public void total(ReportEngine.Aggregate agg) {
+        out.printf("%n===== TOTAL =====%n");
+        out.printf(GROUP_FMT, "", "Opps", "Slots", "Applied", "Pending", "Offered", "Confirmed", "Offer%", "Fill%");
+        print("All matching", agg);
+        out.printf("Funnel: %d applied -> %d pending -> %d offered (SUCCESSFUL/CONFIRMED) -> %d confirmed"
+                        + " | %d unsuccessful, %d withdrawn, %d withdrawal requested%n",
+                agg.getApplications(), agg.get(ApplicationStatus.PENDING), agg.getOffers(),
+                agg.get(ApplicationStatus.CONFIRMED), agg.get(ApplicationStatus.UNSUCCESSFUL),
+                agg.get(ApplicationStatus.WITHDRAWN), agg.get(ApplicationStatus.WITHDRAW_REQUESTED));
+    }
+
+    private void print(String label, ReportEngine.Aggregate agg) {
+        out.printf(VALUE_FMT, label, agg.getOpportunities(), agg.getSlots(), agg.getApplications(),
+                agg.get(ApplicationStatus.PENDING), agg.getOffers(), agg.get(ApplicationStatus.CONFIRMED),
+                agg.getOfferRate() * 100, agg.getFillRate() * 100);
+    }
+}
@@ -1,43 +1,184 @@
-
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+/**
+ * Streaming RFC 4180 CSV reader.
+ *
+ * The file is memory-mapped a window at a time and each row is handed to a
+ * CsvRowHandler as field offsets into the mapping, so memory use does not grow
+ * with the file size and nothing is allocated per row unless the handler asks
+ * for a field value. Quoted fields may contain commas, line breaks and "" escapes.
+ * A UTF-8 BOM, blank lines and CRLF line endings are handled.
+ */
 public class CsvReader {
 
-    public static List<String[]> read(String filePath) {
-        List<String[]> rows = new ArrayList<>();
+    // Rows must fit in one window; the next window starts at the first unfinished row
+    private static final long WINDOW = Long.getLong("ims.csvWindow", 64L << 20);
 
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
+    private static final int INCOMPLETE = -1;
 
-            String line;
-            boolean firstLine = true;
+    private final CsvRow row = new CsvRow();
+    private int rowNewlines;
 
-            while ((line = br.readLine()) != null) {
+    private CsvReader() {}
 
-                // Remove BOM if present
-                if (firstLine && line.startsWith("\uFEFF")) {
-                    line = line.substring(1);
-                }
+    /**
+     * Streams every data row (the header row is skipped) to the handler.
+     * Returns the number of rows delivered.
+     */
+    public static long stream(String filePath, CsvRowHandler handler) {
+        try {
+            return stream(Path.of(filePath), 0, -1, 1, true, handler);
+        } catch (IOException e) {
+            System.out.println("Error reading: " + filePath);
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+    /**
+     * Maps every data row and passes the result to the sink. Rows the mapper rejects
+     * (any RuntimeException, e.g. a blank name or bad number) are skipped and recorded,
+     * with their line number, in the returned report.
+     */
+    public static <T> ImportReport stream(String filePath, Function<CsvRow, T> mapper,
+                                          Consumer<? super T> sink) {
+        ImportReport report = new ImportReport(filePath);
+        stream(filePath, row -> {
+            T item;
+            try {
+                item = mapper.apply(row);
+            } catch (RuntimeException e) {
+                report.skip(row.getLineNumber(), e.getMessage());
+                return;
+            }
+            sink.accept(item);
+            report.imported(1);
+        });
+        return report;
+    }
+
+    /**
+     * Streams the rows in the byte range [start, end) of a file; end = -1 means end of file.
+     * start must be the beginning of a row and firstLine its line number.
+     */
+    static long stream(Path path, long start, long end, long firstLine, boolean skipHeader,
+                       CsvRowHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long limit = end < 0 ? channel.size() : Math.min(end, channel.size());
+            return new CsvReader().parse(channel, start, limit, firstLine, skipHeader, handler);
+        }
+    }
+
+    private long parse(FileChannel channel, long start, long limit, long firstLine,
+                       boolean skipHeader, CsvRowHandler handler) throws IOException {
+        long delivered = 0;
+        long line = firstLine;
+        boolean headerPending = skipHeader;
+        long base = start;
+
+        while (base < limit) {
+            long windowSize = Math.min(WINDOW, limit - base);
+            boolean lastWindow = base + windowSize >= limit;
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, base, windowSize);
+            int bufLimit = (int) windowSize;
+
+            int pos = 0;
+            if (base == 0 && hasBom(buf, bufLimit)) {
+                pos = 3;
+            }
 
-                // Skip header row
-                if (firstLine) {
-                    firstLine = false;
+            while (pos < bufLimit) {
+                int next = parseRow(buf, pos, bufLimit, lastWindow, line);
+                if (next == INCOMPLETE) break;
+                pos = next;
+                line += rowNewlines;
+
+                if (row.isBlank()) continue;
+                if (headerPending) {
+                    headerPending = false;
                     continue;
                 }
-
-                String[] parts = line.split(",", -1); // keep empty columns
-                rows.add(parts);
+                handler.onRow(row);
+                delivered++;
             }
 
-        } catch (IOException e) {
-            System.out.println("Error reading: " + filePath);
-            e.printStackTrace();
+            if (pos == 0 && !lastWindow) {
+                throw new IOException("CSV row at line " + line + " is larger than the "
+                        + WINDOW + "-byte read window (ims.csvWindow)");
+            }
+            base += pos;
+            if (lastWindow) break;
         }
+        return delivered;
+    }
 
-        return rows;
+    private static boolean hasBom(MappedByteBuffer buf, int limit) {
+        return limit >= 3
+                && buf.get(0) == (byte) 0xEF
+                && buf.get(1) == (byte) 0xBB
+                && buf.get(2) == (byte) 0xBF;
     }
-}
 
+    /**
+     * Parses one row starting at pos into {@link #row}. Returns the offset just past the row,
+     * or INCOMPLETE if the row runs past the end of a window that is not the last one.
+     */
+    private int parseRow(MappedByteBuffer buf, int pos, int limit, boolean lastWindow, long line) {
+        row.reset(buf, line);
+        rowNewlines = 0;
+        int p = pos;
+
+        while (true) {
+            if (p < limit && buf.get(p) == '"') {
+                // Quoted field
+                int fieldStart = p + 1;
+                int q = fieldStart;
+                boolean escapes = false;
+                while (true) {
+                    if (q >= limit) {
+                        if (!lastWindow) return INCOMPLETE;
+                        break; // unterminated quote at EOF: take the rest
+                    }
+                    byte b = buf.get(q);
+                    if (b == '"') {
+                        if (q + 1 < limit && buf.get(q + 1) == '"') {
+                            escapes = true;
+                            q += 2;
+                            continue;
+                        }
+                        if (q + 1 >= limit && !lastWindow) return INCOMPLETE;
+                        break;
+                    }
+                    if (b == '\n') rowNewlines++;
+                    q++;
+                }
+                row.addField(fieldStart, q, true, escapes);
+                p = Math.min(q + 1, limit);
+                // Tolerate stray characters between the closing quote and the delimiter
+                while (p < limit && buf.get(p) != ',' && buf.get(p) != '\n') p++;
+            } else {
+                int fieldStart = p;
+                while (p < limit && buf.get(p) != ',' && buf.get(p) != '\n') p++;
+                int fieldEnd = p;
+                if (fieldEnd > fieldStart && buf.get(fieldEnd - 1) == '\r') fieldEnd--;
+                row.addField(fieldStart, fieldEnd, false, false);
+            }
+
+            if (p >= limit) {
+                return lastWindow ? limit : INCOMPLETE;
+            }
+            byte delimiter = buf.get(p++);
+            if (delimiter == '\n') {
+                rowNewlines++;
+                return p;
+            }
+            // ',' -> next field
+        }
+    }
+}
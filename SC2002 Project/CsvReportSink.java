@@ -0,0 +1,76 @@
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Writes a report as one flat CSV table. The first column says what a line is:
+ * OPPORTUNITY lines carry the posting's own fields, GROUP lines the group dimension
+ * and key, TOTAL the overall figures. Count and rate columns are shared by all three;
+ * there is one count column per ApplicationStatus, so they add up to Applications.
+ */
+public class CsvReportSink implements ReportSink {
+
+    private final CsvWriter out;
+
+    public CsvReportSink(String filePath) throws IOException {
+        this.out = new CsvWriter(filePath);
+    }
+
+    @Override
+    public void begin() throws IOException {
+        out.writeRow("RecordType", "GroupBy", "Key", "Title", "Company", "Major", "Level", "Status",
+                "Opportunities", "Slots", "Applications", "Pending", "Successful", "Unsuccessful",
+                "Withdrawn", "WithdrawRequested", "Confirmed", "OfferRate", "FillRate");
+    }
+
+    @Override
+    public void row(InternshipOpportunity opp, int[] counts) throws IOException {
+        long applications = 0;
+        for (int n : counts) applications += n;
+        long offers = counts[ApplicationStatus.SUCCESSFUL.ordinal()] + counts[ApplicationStatus.CONFIRMED.ordinal()];
+        int confirmed = counts[ApplicationStatus.CONFIRMED.ordinal()];
+
+        out.writeRow("OPPORTUNITY", "", opp.getInternshipID(), opp.getTitle(), opp.getCompanyName(),
+                opp.getPreferredMajor(), opp.getLevel().name(), opp.getStatus().name(),
+                "1", String.valueOf(opp.getTotalSlots()), String.valueOf(applications),
+                String.valueOf(counts[ApplicationStatus.PENDING.ordinal()]),
+                String.valueOf(counts[ApplicationStatus.SUCCESSFUL.ordinal()]),
+                String.valueOf(counts[ApplicationStatus.UNSUCCESSFUL.ordinal()]),
+                String.valueOf(counts[ApplicationStatus.WITHDRAWN.ordinal()]),
+                String.valueOf(counts[ApplicationStatus.WITHDRAW_REQUESTED.ordinal()]),
+                String.valueOf(confirmed),
+                rate(ReportEngine.ratio(offers, applications)),
+                rate(ReportEngine.ratio(confirmed, opp.getTotalSlots())));
+    }
+
+    @Override
+    public void group(ReportEngine.GroupBy by, String key, ReportEngine.Aggregate agg) throws IOException {
+        write("GROUP", by.name(), key, agg);
+    }
+
+    @Override
+    public void total(ReportEngine.Aggregate agg) throws IOException {
+        write("TOTAL", "", "", agg);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void write(String type, String by, String key, ReportEngine.Aggregate agg) throws IOException {
+        out.writeRow(type, by, key, "", "", "", "", "",
+                String.valueOf(agg.getOpportunities()), String.valueOf(agg.getSlots()),
+                String.valueOf(agg.getApplications()),
+                String.valueOf(agg.get(ApplicationStatus.PENDING)),
+                String.valueOf(agg.get(ApplicationStatus.SUCCESSFUL)),
+                String.valueOf(agg.get(ApplicationStatus.UNSUCCESSFUL)),
+                String.valueOf(agg.get(ApplicationStatus.WITHDRAWN)),
+                String.valueOf(agg.get(ApplicationStatus.WITHDRAW_REQUESTED)),
+                String.valueOf(agg.get(ApplicationStatus.CONFIRMED)),
+                rate(agg.getOfferRate()), rate(agg.getFillRate()));
+    }
+
+    private static String rate(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+}
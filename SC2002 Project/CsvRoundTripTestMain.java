@@ -0,0 +1,84 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Round-trip check for CsvWriter and CsvReader.
+ *
+ * Writes rows whose fields start or end with non-ASCII characters (accented names,
+ * CJK company names, a row with nothing but non-ASCII text) or with spaces and tabs,
+ * and reads them back: every field must come back unchanged and no row may be dropped
+ * as blank. A hand-written file then checks that whitespace is trimmed outside quotes
+ * and kept inside them.
+ *
+ *   java -cp target/classes CsvRoundTripTestMain
+ */
+public class CsvRoundTripTestMain {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) throws IOException {
+        String[][] rows = {
+                {"U0000001A", "Jos\u00e9", "\u00c9cole Polytechnique", "G\u00e9nie \u00c9lectrique"},
+                {"U0000002B", "Zo\u00eb \u00dcnal", "Caf\u00e9, Ltd.", "\u00d6konomie"},
+                {"U0000003C", "\u5317\u4eac", "\u6771\u4eac\u5927\u5b66", "\u60c5\u5831"},
+                {"\u00e9", "\u00df", "\u00f1", "\u00f8"},
+                {"U0000004D", "Plain ASCII", "Acme", "Computer Science"},
+                {"  U0000005E", "Padded  ", "\tTabbed\t", " \"Quoted\", and\nmultiline "},
+        };
+
+        Path file = Files.createTempFile("csv-round-trip", ".csv");
+        try {
+            try (CsvWriter out = new CsvWriter(file.toString())) {
+                out.writeRow("ID", "Name", "Company", "Major");
+                for (String[] row : rows) {
+                    out.writeRow(row);
+                }
+            }
+
+            List<String[]> read = new ArrayList<>();
+            ImportReport report = CsvReader.stream(file.toString(), row -> {
+                String[] fields = new String[row.fieldCount()];
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = row.get(i);
+                }
+                return fields;
+            }, read::add);
+
+            check(report.getSkipped() == 0, "skipped rows: " + report.getProblems());
+            check(read.size() == rows.length, "read " + read.size() + " rows, wrote " + rows.length);
+            for (int i = 0; i < Math.min(rows.length, read.size()); i++) {
+                check(Arrays.equals(rows[i], read.get(i)),
+                        "row " + (i + 1) + ": wrote " + Arrays.toString(rows[i])
+                                + ", read " + Arrays.toString(read.get(i)));
+            }
+
+            // Hand-written: unquoted padding is trimmed, quoted padding is kept
+            Files.writeString(file, "ID,Name,Company\n  U0000006F  ,\"  Ann  \", Acme \r\n");
+            List<String[]> padded = new ArrayList<>();
+            CsvReader.stream(file.toString(), row -> new String[] {row.get(0), row.get(1), row.get(2)}, padded::add);
+            String[] expected = {"U0000006F", "  Ann  ", "Acme"};
+            check(padded.size() == 1 && Arrays.equals(expected, padded.get(0)),
+                    "padded row read as " + (padded.isEmpty() ? "nothing" : Arrays.toString(padded.get(0))));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        System.out.println(failures == 0
+                ? "All " + rows.length + " rows read back unchanged."
+                : failures + " check(s) FAILED.");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void check(boolean ok, String message) {
+        if (!ok) {
+            failures++;
+            System.out.println(message);
+        }
+    }
+}
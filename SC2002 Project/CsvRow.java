@@ -0,0 +1,144 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * One parsed CSV row, as offsets into the reader's buffer.
+ *
+ * The same instance is reused for every row of a file, so handlers must copy
+ * out whatever they need (get / getInt) before returning. Fields are only turned
+ * into Strings when asked for.
+ */
+public final class CsvRow {
+
+    private ByteBuffer buffer;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private boolean[] quoted = new boolean[16];  // written in quotes: whitespace is part of the value
+    private boolean[] escaped = new boolean[16]; // quoted field containing "" pairs
+    private int count;
+    private long lineNumber;
+    private byte[] scratch = new byte[256];
+
+    CsvRow() {}
+
+    // ===================== READER SIDE =====================
+
+    void reset(ByteBuffer buffer, long lineNumber) {
+        this.buffer = buffer;
+        this.lineNumber = lineNumber;
+        this.count = 0;
+    }
+
+    void addField(int start, int end, boolean isQuoted, boolean hasEscapes) {
+        if (count == starts.length) {
+            int n = count * 2;
+            starts = Arrays.copyOf(starts, n);
+            ends = Arrays.copyOf(ends, n);
+            quoted = Arrays.copyOf(quoted, n);
+            escaped = Arrays.copyOf(escaped, n);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        quoted[count] = isQuoted;
+        escaped[count] = hasEscapes;
+        count++;
+    }
+
+    // ===================== HANDLER SIDE =====================
+
+    /** 1-based line in the file where this row starts (header is line 1). */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public int fieldCount() {
+        return count;
+    }
+
+    /**
+     * Field value; "" for a missing column. Surrounding whitespace is removed from
+     * unquoted fields only: inside quotes it is part of the value.
+     */
+    public String get(int index) {
+        if (index < 0 || index >= count) return "";
+        int start = starts[index];
+        int end = ends[index];
+
+        // Trim ASCII whitespace without materialising the untrimmed value
+        if (!quoted[index]) {
+            while (start < end && isSpace(buffer.get(start))) start++;
+            while (end > start && isSpace(buffer.get(end - 1))) end--;
+        }
+
+        int len = end - start;
+        if (len == 0) return "";
+        if (scratch.length < len) {
+            scratch = new byte[Math.max(len, scratch.length * 2)];
+        }
+
+        if (!escaped[index]) {
+            buffer.get(start, scratch, 0, len);
+            return new String(scratch, 0, len, StandardCharsets.UTF_8);
+        }
+
+        // Collapse "" into "
+        int out = 0;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            scratch[out++] = b;
+            if (b == '"' && i + 1 < end && buffer.get(i + 1) == '"') {
+                i++;
+            }
+        }
+        return new String(scratch, 0, out, StandardCharsets.UTF_8);
+    }
+
+    /** Parses an integer field straight from the buffer. */
+    public int getInt(int index) {
+        if (index < 0 || index >= count) {
+            throw new NumberFormatException("Missing column " + (index + 1));
+        }
+        int start = starts[index];
+        int end = ends[index];
+        while (start < end && isSpace(buffer.get(start))) start++;
+        while (end > start && isSpace(buffer.get(end - 1))) end--;
+        if (start == end) {
+            throw new NumberFormatException("Empty value in column " + (index + 1));
+        }
+
+        boolean negative = buffer.get(start) == '-';
+        if (negative || buffer.get(start) == '+') start++;
+        if (start == end) {
+            throw new NumberFormatException("For input string: \"" + get(index) + "\"");
+        }
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9 || value > Integer.MAX_VALUE) {
+                throw new NumberFormatException("For input string: \"" + get(index) + "\"");
+            }
+            value = value * 10 + digit;
+        }
+        value = negative ? -value : value;
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("For input string: \"" + get(index) + "\"");
+        }
+        return (int) value;
+    }
+
+    public boolean isBlank() {
+        for (int i = 0; i < count; i++) {
+            for (int p = starts[i]; p < ends[i]; p++) {
+                if (!isSpace(buffer.get(p))) return false;
+            }
+        }
+        return true;
+    }
+
+    // Only ASCII blanks: bytes are signed, and every byte of a multi-byte UTF-8 character is negative
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Receives rows from CsvReader one at a time. The row object is reused,
+ * so read what you need before returning.
+ */
+@FunctionalInterface
+public interface CsvRowHandler {
+    void onRow(CsvRow row);
+}
@@ -0,0 +1,53 @@
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Minimal RFC 4180 writer: fields containing commas, quotes or line breaks, or starting
+ * or ending with a space or tab, are quoted and embedded quotes doubled. CsvReader keeps
+ * whitespace inside quotes and trims it outside, so it reads back exactly what was written.
+ */
+public class CsvWriter implements Closeable {
+
+    private final BufferedWriter out;
+
+    public CsvWriter(String filePath) throws IOException {
+        this.out = Files.newBufferedWriter(Path.of(filePath), StandardCharsets.UTF_8);
+    }
+
+    public void writeRow(String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) out.write(',');
+            writeField(fields[i]);
+        }
+        out.write('\n');
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null || value.isEmpty()) return;
+
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0
+                || isBlank(value.charAt(0)) || isBlank(value.charAt(value.length() - 1));
+        if (!needsQuotes) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    // Whitespace CsvReader trims from unquoted fields (line breaks are quoted anyway)
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
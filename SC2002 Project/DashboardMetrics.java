@@ -0,0 +1,172 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Live counters behind the staff dashboard, kept up to date on every transition
+ * instead of being recomputed per view.
+ *
+ * OpportunityManager feeds it from the same places it moves its indexes: adding or
+ * removing a posting, and the posting's status listener, which also hears about each
+ * of its applications changing status (approvals, offers, confirmations and
+ * withdrawals all arrive through setStatus). Every call runs under that posting's own
+ * lock; counters are atomic because different postings update them in parallel.
+ *
+ * Reading a Row costs the same whatever the number of postings or applications.
+ * Counters are read one by one, so a view taken mid-update may be off by that update.
+ */
+public class DashboardMetrics {
+
+    private static final OpportunityStatus[] OPP_STATUSES = OpportunityStatus.values();
+    private static final ApplicationStatus[] APP_STATUSES = ApplicationStatus.values();
+    private static final InternshipLevel[] LEVELS = InternshipLevel.values();
+
+    // Row layout: postings by OpportunityStatus ordinal, then applications by
+    // ApplicationStatus ordinal, then total slots
+    private static final int APP_BASE = OPP_STATUSES.length;
+    private static final int SLOTS = APP_BASE + APP_STATUSES.length;
+    private static final int WIDTH = SLOTS + 1;
+
+    /** Counters for one slice of the postings (everything, one level, company or major). */
+    public static final class Row {
+        private final String label;
+        private final AtomicLongArray counts = new AtomicLongArray(WIDTH);
+
+        private Row(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getOpportunities(OpportunityStatus status) {
+            return counts.get(status.ordinal());
+        }
+
+        public long getOpportunities() {
+            long total = 0;
+            for (int i = 0; i < APP_BASE; i++) total += counts.get(i);
+            return total;
+        }
+
+        public long getApplications(ApplicationStatus status) {
+            return counts.get(APP_BASE + status.ordinal());
+        }
+
+        public long getApplications() {
+            long total = 0;
+            for (int i = APP_BASE; i < SLOTS; i++) total += counts.get(i);
+            return total;
+        }
+
+        public long getSlots() {
+            return counts.get(SLOTS);
+        }
+
+        /** Share of slots taken by CONFIRMED applications. */
+        public double getFillRate() {
+            long slots = getSlots();
+            return slots == 0 ? 0.0 : (double) getApplications(ApplicationStatus.CONFIRMED) / slots;
+        }
+    }
+
+    private final Row total = new Row("All");
+    private final Row[] byLevel = new Row[LEVELS.length];
+    // Keyed case-insensitively; a row keeps the spelling it was first seen with
+    private final Map<String, Row> byCompany = new ConcurrentHashMap<>();
+    private final Map<String, Row> byMajor = new ConcurrentHashMap<>();
+
+    public DashboardMetrics() {
+        for (InternshipLevel level : LEVELS) {
+            byLevel[level.ordinal()] = new Row(level.name());
+        }
+    }
+
+    // ========== UPDATES (called by OpportunityManager under opp's lock) ==========
+
+    void added(InternshipOpportunity opp) {
+        apply(opp, +1);
+    }
+
+    void removed(InternshipOpportunity opp) {
+        apply(opp, -1);
+    }
+
+    void statusChanged(InternshipOpportunity opp, OpportunityStatus oldStatus, OpportunityStatus newStatus) {
+        for (Row row : rowsOf(opp)) {
+            row.counts.decrementAndGet(oldStatus.ordinal());
+            row.counts.incrementAndGet(newStatus.ordinal());
+        }
+    }
+
+    void applicationStatusChanged(InternshipOpportunity opp, ApplicationStatus oldStatus,
+                                  ApplicationStatus newStatus) {
+        for (Row row : rowsOf(opp)) {
+            if (oldStatus != null) row.counts.decrementAndGet(APP_BASE + oldStatus.ordinal());
+            if (newStatus != null) row.counts.incrementAndGet(APP_BASE + newStatus.ordinal());
+        }
+    }
+
+    // The posting with everything it carries, counted in (+1) or out (-1)
+    private void apply(InternshipOpportunity opp, int sign) {
+        int[] applications = opp.getApplicationCounts();
+        for (Row row : rowsOf(opp)) {
+            row.counts.addAndGet(opp.getStatus().ordinal(), sign);
+            for (int i = 0; i < applications.length; i++) {
+                if (applications[i] != 0) row.counts.addAndGet(APP_BASE + i, sign * applications[i]);
+            }
+            row.counts.addAndGet(SLOTS, sign * (long) opp.getTotalSlots());
+        }
+    }
+
+    private Row[] rowsOf(InternshipOpportunity opp) {
+        return new Row[] {
+                total,
+                byLevel[opp.getLevel().ordinal()],
+                rowFor(byCompany, opp.getCompanyName()),
+                rowFor(byMajor, opp.getPreferredMajor())
+        };
+    }
+
+    private static Row rowFor(Map<String, Row> rows, String name) {
+        return rows.computeIfAbsent(name.trim().toLowerCase(Locale.ROOT), k -> new Row(name.trim()));
+    }
+
+    // ========== VIEWS ==========
+
+    public Row getTotal() {
+        return total;
+    }
+
+    public Row getLevel(InternshipLevel level) {
+        return byLevel[level.ordinal()];
+    }
+
+    public List<Row> getLevels() {
+        return List.of(byLevel);
+    }
+
+    /** Company rows sorted by name; companies whose postings were all removed are left out. */
+    public List<Row> getCompanies() {
+        return sorted(byCompany);
+    }
+
+    /** Major rows sorted by name; majors whose postings were all removed are left out. */
+    public List<Row> getMajors() {
+        return sorted(byMajor);
+    }
+
+    private static List<Row> sorted(Map<String, Row> rows) {
+        List<Row> list = new ArrayList<>(rows.size());
+        for (Row row : rows.values()) {
+            if (row.getOpportunities() > 0) list.add(row);
+        }
+        list.sort((a, b) -> a.label.compareToIgnoreCase(b.label));
+        return Collections.unmodifiableList(list);
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * A state change published on the EventBus. Events carry the changed object itself,
+ * not a copy: a subscriber that needs the current state (e.g. storage writing a
+ * full record) reads it when the event is handled, which is always at least as new
+ * as the change that was published.
+ *
+ * nanoTime is System.nanoTime() at publication, for measuring how far behind a
+ * subscriber runs.
+ */
+public sealed interface DomainEvent {
+
+    long nanoTime();
+
+    // ---------- Users ----------
+
+    /** A user was added, or their stored details changed (password, profile, approval). */
+    record UserChanged(User user, long nanoTime) implements DomainEvent {}
+
+    /** A company representative's account was approved by staff. */
+    record RepApproved(CompanyRepresentative rep, long nanoTime) implements DomainEvent {}
+
+    // ---------- Opportunities ----------
+
+    record OpportunityAdded(InternshipOpportunity opportunity, long nanoTime) implements DomainEvent {}
+
+    record OpportunityRemoved(InternshipOpportunity opportunity, long nanoTime) implements DomainEvent {}
+
+    record OpportunityStatusChanged(InternshipOpportunity opportunity, OpportunityStatus oldStatus,
+                                    OpportunityStatus newStatus, long nanoTime) implements DomainEvent {}
+
+    /** A pending posting was approved (also published as an OpportunityStatusChanged). */
+    record OpportunityApproved(InternshipOpportunity opportunity, long nanoTime) implements DomainEvent {}
+
+    record OpportunityVisibilityChanged(InternshipOpportunity opportunity, long nanoTime) implements DomainEvent {}
+
+    // ---------- Applications ----------
+
+    record ApplicationAdded(InternshipApplication application, long nanoTime) implements DomainEvent {}
+
+    record ApplicationStatusChanged(InternshipApplication application, ApplicationStatus oldStatus,
+                                    ApplicationStatus newStatus, long nanoTime) implements DomainEvent {}
+
+    /** Remarks, previous status or withdrawal date changed. */
+    record ApplicationDetailsChanged(InternshipApplication application, long nanoTime) implements DomainEvent {}
+}
@@ -0,0 +1,125 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+/**
+ * The opportunities students can currently apply for, bucketed by (major, level band)
+ * and kept sorted by title.
+ *
+ * A posting is in its buckets while it is visible, APPROVED and not past its closing
+ * date. OpportunityManager updates membership alongside its other indexes, under the
+ * opportunity's lock, on add, remove and every status / visibility change. Postings
+ * that close are retired at day rollover through OpportunityManager.expireClosed
+ * (driven by ClosingDateScheduler), so reads never check dates.
+ */
+public class EligibilityIndex {
+
+    private final Map<InternshipOpportunity, TitleKey> members = new ConcurrentHashMap<>();
+    // Keyed by the manager's title keys, so bucket pages sort exactly like OpportunityManager.pageByTitle
+    private final Map<String, Map<LevelBand, ConcurrentSkipListMap<TitleKey, InternshipOpportunity>>> buckets =
+            new ConcurrentHashMap<>();
+
+    // ========== QUERY ==========
+
+    /** Title-sorted postings open to a student of this major and band. */
+    public List<InternshipOpportunity> eligibleFor(String major, LevelBand band) {
+        Map<LevelBand, ConcurrentSkipListMap<TitleKey, InternshipOpportunity>> byBand = buckets.get(normalize(major));
+        if (byBand == null) {
+            return List.of();
+        }
+        return new ArrayList<>(byBand.get(band).values());
+    }
+
+    /** One title-ordered page of a bucket, skipping postings filter rejects (null = none). */
+    public Page<InternshipOpportunity> page(String major, LevelBand band,
+                                            Predicate<? super InternshipOpportunity> filter,
+                                            Page.Cursor after, int size) {
+        Map<LevelBand, ConcurrentSkipListMap<TitleKey, InternshipOpportunity>> byBand =
+                buckets.get(normalize(major));
+        if (byBand == null) {
+            return Page.of(List.of(), null, size);
+        }
+        return Page.of(byBand.get(band), after, size, filter);
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    // ========== MAINTENANCE (called by OpportunityManager) ==========
+
+    /**
+     * Re-checks one stored opportunity after it was added or its status / visibility
+     * changed. today comes from OpportunityManager.today(), the date expiry uses too.
+     */
+    void update(InternshipOpportunity opp, TitleKey key, LocalDate today) {
+        // Under the opportunity's lock, so its state cannot change between the check and the move
+        synchronized (opp.lock()) {
+            boolean eligible = opp.isVisible()
+                    && opp.getStatus() == OpportunityStatus.APPROVED
+                    && !today.isAfter(opp.getClosingDate());
+            if (eligible) {
+                join(opp, key);
+            } else {
+                leave(opp);
+            }
+        }
+    }
+
+    /** Drops opp if it is closed as of today. Returns true if it was in the buckets. */
+    boolean expire(InternshipOpportunity opp, LocalDate today) {
+        synchronized (opp.lock()) {
+            if (!today.isAfter(opp.getClosingDate())) return false;
+            return leave(opp);
+        }
+    }
+
+    void remove(InternshipOpportunity opp) {
+        synchronized (opp.lock()) {
+            leave(opp);
+        }
+    }
+
+    private void join(InternshipOpportunity opp, TitleKey key) {
+        if (members.putIfAbsent(opp, key) != null) return;
+
+        Map<LevelBand, ConcurrentSkipListMap<TitleKey, InternshipOpportunity>> byBand =
+                buckets.computeIfAbsent(normalize(opp.getPreferredMajor()), k -> newBands());
+        for (LevelBand band : LevelBand.values()) {
+            if (band.admits(opp.getLevel())) {
+                byBand.get(band).put(key, opp);
+            }
+        }
+    }
+
+    private boolean leave(InternshipOpportunity opp) {
+        TitleKey key = members.remove(opp);
+        if (key == null) return false;
+        // Empty buckets are kept: removing them could race with a concurrent join
+        Map<LevelBand, ConcurrentSkipListMap<TitleKey, InternshipOpportunity>> byBand =
+                buckets.get(normalize(opp.getPreferredMajor()));
+        for (ConcurrentSkipListMap<TitleKey, InternshipOpportunity> bucket : byBand.values()) {
+            bucket.remove(key);
+        }
+        return true;
+    }
+
+    private static Map<LevelBand, ConcurrentSkipListMap<TitleKey, InternshipOpportunity>> newBands() {
+        // Filled here and only read afterwards, so the EnumMap needs no locking
+        Map<LevelBand, ConcurrentSkipListMap<TitleKey, InternshipOpportunity>> byBand = new EnumMap<>(LevelBand.class);
+        for (LevelBand band : LevelBand.values()) {
+            byBand.put(band, new ConcurrentSkipListMap<>());
+        }
+        return byBand;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,303 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process publish/subscribe for DomainEvents, built on a lock-free ring buffer in
+ * the style of the LMAX Disruptor.
+ *
+ * Publishers claim the next sequence number with one atomic increment, store the
+ * event in that slot and mark the slot published; nothing is locked and nothing is
+ * queued per subscriber. Every subscriber has its own thread and its own sequence and
+ * reads the same ring: when it wakes it takes every event published since it last
+ * looked as one batch, and its handler is told which event ends the batch (storage
+ * uses that to write and fsync once per batch). A publisher only waits when the ring
+ * is full, i.e. the slowest subscriber is a whole ring (-Dims.eventBufferSize, default
+ * 8192) behind.
+ *
+ * Publishers are usually the entity listeners, which run under an opportunity's lock.
+ * Handlers must therefore never take an opportunity lock or publish events themselves,
+ * or a full ring could deadlock. Indexes and dashboard counters stay on the synchronous
+ * listeners because the menus read them straight after a change; the bus is for work
+ * that can run behind (persistence, metrics, notifications).
+ */
+public class EventBus implements AutoCloseable {
+
+    /** Receives every event in publication order, on the subscriber's own thread. */
+    public interface Handler {
+        void onEvent(DomainEvent event, long sequence, boolean endOfBatch) throws Exception;
+    }
+
+    private static final Metrics.Counter HANDLER_ERRORS = Metrics.counter("events.handlerErrors");
+    private static final int SPINS_BEFORE_PARKING = 64;
+
+    private final int mask;
+    private final DomainEvent[] entries;
+    // published.get(i) == s once the event with sequence s is readable in slot i
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private volatile long cachedGate = -1;   // lowest subscriber sequence last seen by a publisher
+
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private volatile Subscriber[] running = new Subscriber[0];
+    private volatile boolean closed;
+
+    public EventBus() {
+        this(Integer.getInteger("ims.eventBufferSize", 8192));
+    }
+
+    public EventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;   // next power of two
+        this.mask = size - 1;
+        this.entries = new DomainEvent[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    // ========== SUBSCRIBING ==========
+
+    /** Adds a subscriber; only before start(). It sees every event published after start. */
+    public synchronized void subscribe(String name, Handler handler) {
+        if (running.length > 0) {
+            throw new IllegalStateException("Subscribe before the bus is started");
+        }
+        subscribers.add(new Subscriber(name, handler));
+    }
+
+    public synchronized void start() {
+        if (running.length > 0) return;
+        // Anything published before now may already be overwritten; start at the cursor
+        long cursor = claimed.get();
+        for (Subscriber s : subscribers) {
+            s.sequence = cursor;
+            s.thread.start();
+        }
+        running = subscribers.toArray(new Subscriber[0]);
+    }
+
+    // ========== PUBLISHING ==========
+
+    /** Publishes event to every subscriber. Returns false (and drops it) once the bus is closed. */
+    public boolean publish(DomainEvent event) {
+        if (closed) return false;
+        long sequence = claimed.incrementAndGet();
+        awaitCapacity(sequence);
+
+        int slot = (int) sequence & mask;
+        entries[slot] = event;
+        published.set(slot, sequence);   // volatile write: the event is visible before the flag
+
+        for (Subscriber s : running) {
+            if (s.parked) LockSupport.unpark(s.thread);
+        }
+        return true;
+    }
+
+    /** Last sequence handed out to a publisher (-1 before the first event). */
+    public long getCursor() {
+        return claimed.get();
+    }
+
+    // The slot for sequence is free once every subscriber has handled the event a ring earlier
+    private void awaitCapacity(long sequence) {
+        long wrapPoint = sequence - entries.length;
+        if (wrapPoint <= cachedGate) return;
+        long gate;
+        while (wrapPoint > (gate = lowestSubscriberSequence(sequence))) {
+            for (Subscriber s : running) {
+                if (s.parked) LockSupport.unpark(s.thread);
+            }
+            LockSupport.parkNanos(1_000);
+        }
+        cachedGate = gate;
+    }
+
+    private long lowestSubscriberSequence(long fallback) {
+        Subscriber[] subs = running;
+        if (subs.length == 0) {
+            // Nobody reads the ring yet: keep the newest events, overwrite the oldest
+            return fallback;
+        }
+        long lowest = Long.MAX_VALUE;
+        for (Subscriber s : subs) {
+            lowest = Math.min(lowest, s.sequence);
+        }
+        return lowest;
+    }
+
+    // ========== SUBSCRIBER THREADS ==========
+
+    private final class Subscriber implements Runnable {
+        private final String name;
+        private final Handler handler;
+        private final Thread thread;
+        private volatile long sequence = -1;   // last event handled
+        private volatile boolean parked;
+        private volatile boolean stopping;
+
+        Subscriber(String name, Handler handler) {
+            this.name = name;
+            this.handler = handler;
+            this.thread = new Thread(this, "events-" + name);
+            thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long next = sequence + 1;
+            int idle = 0;
+            while (true) {
+                long available = highestPublishedFrom(next);
+                if (available < next) {
+                    if (stopping) return;
+                    if (++idle < SPINS_BEFORE_PARKING) {
+                        Thread.onSpinWait();
+                    } else {
+                        // Publishers unpark us when they see the flag; re-check after setting it
+                        parked = true;
+                        if (highestPublishedFrom(next) < next && !stopping) {
+                            LockSupport.park(this);
+                        }
+                        parked = false;
+                        idle = 0;
+                    }
+                    continue;
+                }
+
+                for (long s = next; s <= available; s++) {
+                    DomainEvent event = entries[(int) s & mask];
+                    try {
+                        handler.onEvent(event, s, s == available);
+                    } catch (Exception e) {
+                        // One bad event must not stop the subscriber
+                        HANDLER_ERRORS.increment();
+                        System.err.println("Event subscriber " + name + " failed on "
+                                + event.getClass().getSimpleName() + ": " + e);
+                    }
+                }
+                sequence = available;
+                next = available + 1;
+                idle = 0;
+            }
+        }
+
+        // Events are published out of order by concurrent publishers; a batch ends at the first gap
+        private long highestPublishedFrom(long next) {
+            long last = claimed.get();
+            long s = next;
+            while (s <= last && published.get((int) s & mask) == s) {
+                s++;
+            }
+            return s - 1;
+        }
+    }
+
+    // ========== SOURCES ==========
+
+    /**
+     * Publishes the changes the managers announce through their listeners: every user,
+     * posting and application change becomes an event.
+     */
+    public void publishChangesOf(UserManager userManager, OpportunityManager opportunityManager,
+                                 ApplicationManager applicationManager) {
+        // Approval is the one user change with its own event; remember who was approved already
+        Set<String> approvedReps = ConcurrentHashMap.newKeySet();
+        for (CompanyRepresentative rep : userManager.getAllRepresentatives()) {
+            if (rep.isApproved()) approvedReps.add(rep.getUserID().toLowerCase(Locale.ROOT));
+        }
+
+        userManager.addListener(user -> {
+            publish(new DomainEvent.UserChanged(user, System.nanoTime()));
+            if (user instanceof CompanyRepresentative rep) {
+                String key = rep.getUserID().toLowerCase(Locale.ROOT);
+                if (!rep.isApproved()) {
+                    approvedReps.remove(key);
+                } else if (approvedReps.add(key)) {
+                    publish(new DomainEvent.RepApproved(rep, System.nanoTime()));
+                }
+            }
+        });
+
+        opportunityManager.addListener(new OpportunityListener() {
+            @Override
+            public void onStatusChanged(InternshipOpportunity opp, OpportunityStatus oldStatus,
+                                        OpportunityStatus newStatus) {
+                long now = System.nanoTime();
+                publish(new DomainEvent.OpportunityStatusChanged(opp, oldStatus, newStatus, now));
+                if (oldStatus == OpportunityStatus.PENDING_APPROVAL && newStatus == OpportunityStatus.APPROVED) {
+                    publish(new DomainEvent.OpportunityApproved(opp, now));
+                }
+            }
+
+            @Override
+            public void onVisibilityChanged(InternshipOpportunity opp) {
+                publish(new DomainEvent.OpportunityVisibilityChanged(opp, System.nanoTime()));
+            }
+
+            @Override
+            public void onAdded(InternshipOpportunity opp) {
+                publish(new DomainEvent.OpportunityAdded(opp, System.nanoTime()));
+            }
+
+            @Override
+            public void onRemoved(InternshipOpportunity opp) {
+                publish(new DomainEvent.OpportunityRemoved(opp, System.nanoTime()));
+            }
+        });
+
+        applicationManager.addListener(new ApplicationListener() {
+            @Override
+            public void onStatusChanged(InternshipApplication app, ApplicationStatus oldStatus,
+                                        ApplicationStatus newStatus) {
+                publish(new DomainEvent.ApplicationStatusChanged(app, oldStatus, newStatus, System.nanoTime()));
+            }
+
+            @Override
+            public void onDetailsChanged(InternshipApplication app) {
+                publish(new DomainEvent.ApplicationDetailsChanged(app, System.nanoTime()));
+            }
+
+            @Override
+            public void onAdded(InternshipApplication app) {
+                publish(new DomainEvent.ApplicationAdded(app, System.nanoTime()));
+            }
+        });
+    }
+
+    // ========== SHUTDOWN ==========
+
+    /**
+     * Stops accepting events, lets every subscriber finish the events already
+     * published (waiting up to a few seconds), then stops the threads.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        long last = claimed.get();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        for (Subscriber s : running) {
+            while (s.sequence < last && System.nanoTime() < deadline) {
+                LockSupport.unpark(s.thread);
+                LockSupport.parkNanos(1_000_000);
+            }
+            s.stopping = true;
+            LockSupport.unpark(s.thread);
+        }
+        for (Subscriber s : running) {
+            try {
+                s.thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+/**
+ * Event subscriber that counts events by type (events.<Type>) and records how long
+ * each waited between being published and reaching this subscriber (events.lag).
+ */
+public class EventMetrics implements EventBus.Handler {
+
+    private static final Metrics.Timer LAG = Metrics.timer("events.lag");
+    private static final ClassValue<Metrics.Counter> COUNTERS = new ClassValue<>() {
+        @Override
+        protected Metrics.Counter computeValue(Class<?> type) {
+            return Metrics.counter("events." + type.getSimpleName());
+        }
+    };
+
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        COUNTERS.get(event.getClass()).increment();
+        LAG.stop(event.nanoTime());
+    }
+}
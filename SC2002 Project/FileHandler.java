@@ -1,118 +1,303 @@
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class FileHandler {
 
-    // ===================== LOW-LEVEL CSV READER =====================
+    private static final int BATCH_SIZE = 1000;
+    private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-    private static List<String[]> readCsv(String filePath) {
-        List<String[]> rows = new ArrayList<>();
+    static final String[] REP_HEADER =
+            {"CompanyRepID", "Name", "CompanyName", "Department", "Position", "Email", "Status"};
+    static final String[] OPPORTUNITY_HEADER =
+            {"InternshipID", "Title", "Description", "Level", "PreferredMajor", "CompanyName", "RepID",
+             "Slots", "OpeningDate", "ClosingDate", "Status", "Visible"};
+    static final String[] APPLICATION_HEADER =
+            {"ApplicationID", "StudentID", "InternshipID", "Status", "PreviousStatus", "DateApplied", "Remarks"};
 
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean firstLine = true;
+    // ===================== HIGH-LEVEL LOADERS =====================
+    // All parsing goes through the streaming CsvReader; see the *Loader classes for column layouts
 
-            while ((line = br.readLine()) != null) {
-                // If your file has BOM, strip it (sometimes needed)
-                if (firstLine && line.startsWith("\uFEFF")) {
-                    line = line.substring(1);
-                }
+    public static List<Student> loadStudents(String filePath) {
+        return StudentLoader.load(filePath);
+    }
 
-                // Skip header line
-                if (firstLine) {
-                    firstLine = false;
-                    continue;
-                }
+    public static List<CompanyRepresentative> loadCompanyReps(String filePath) {
+        return CompanyRepLoader.load(filePath);
+    }
 
-                // Split by comma – adjust if your file uses ; instead
-                String[] parts = line.split(",", -1); // -1 keeps empty columns
-                rows.add(parts);
+    public static List<CareerCenterStaff> loadStaff(String filePath) {
+        return StaffLoader.load(filePath);
+    }
+
+    // ===================== IMPORT =====================
+    // Rows are validated one by one; bad rows are skipped and reported with their line number.
+    // Valid rows are handed to the managers in batches of BATCH_SIZE.
+
+    public static ImportReport importCompanyReps(String filePath, UserManager userManager) {
+        Set<String> seen = new HashSet<>();
+
+        return importRows(filePath, row -> {
+            CompanyRepresentative rep = CompanyRepLoader.fromRow(row);
+            String key = rep.getUserID().toLowerCase();
+            if (userManager.containsUserID(key) || !seen.add(key)) {
+                throw new IllegalArgumentException("User ID " + rep.getUserID() + " already exists");
             }
-        } catch (IOException e) {
-            System.out.println("Error reading CSV file: " + filePath);
-            e.printStackTrace();
-        }
+            return rep;
+        }, userManager::addRepresentatives);
+    }
 
-        return rows;
+    public static ImportReport importOpportunities(String filePath, UserManager userManager,
+                                                   OpportunityManager opportunityManager) {
+        return importOpportunities(filePath, userManager, opportunityManager, false);
     }
 
-    // ===================== HIGH-LEVEL LOADERS =====================
+    /**
+     * requireIDs rejects rows with a blank InternshipID instead of generating one. Files
+     * imported on every start need it: a generated ID differs each time, so the row would
+     * be added again next to the copy restored from saved data.
+     */
+    public static ImportReport importOpportunities(String filePath, UserManager userManager,
+                                                   OpportunityManager opportunityManager,
+                                                   boolean requireIDs) {
+        Set<String> seen = new HashSet<>();
+        Map<CompanyRepresentative, Integer> pendingPerRep = new HashMap<>();
 
-    // Adjust the index mapping to match your actual columns
+        return importRows(filePath, row -> {
+            // Columns: see OPPORTUNITY_HEADER
+            String id = row.get(0).isEmpty() && !requireIDs
+                    ? InternshipOpportunity.generateID()
+                    : requireValue(row.get(0), "InternshipID");
+            if (opportunityManager.findByID(id) != null || !seen.add(id.toLowerCase())) {
+                throw new IllegalArgumentException("Internship ID " + id + " already exists");
+            }
 
-    public static List<Student> loadStudents(String filePath) {
-        List<Student> students = new ArrayList<>();
-
-        for (String[] row : readCsv(filePath)) {
-            // Example assumption:
-            // [0] studentID, [1] name, [2] major, [3] yearOfStudy, [4] email
-            String id    = row[0].trim();
-            String name  = row[1].trim();
-            String major = row[2].trim();
-            int year     = Integer.parseInt(row[3].trim());
-            String email = row[4].trim();
-
-            Student s = new Student(id, name, major, year, email);
-            students.add(s);
-        }
+            String repID = row.get(6);
+            CompanyRepresentative rep = userManager.findRepresentative(repID);
+            if (rep == null) {
+                throw new IllegalArgumentException("Unknown company representative '" + repID + "'");
+            }
+            int owned = rep.getMyInternships().size() + pendingPerRep.getOrDefault(rep, 0);
+            if (owned >= 5) {
+                throw new IllegalArgumentException(repID + " already has 5 internships");
+            }
+
+            String title = requireValue(row.get(1), "Title");
+            String company = row.get(5).isEmpty() ? rep.getCompanyName() : row.get(5);
+            int slots = row.getInt(7);
+            if (slots < 1 || slots > 10) {
+                throw new IllegalArgumentException("Slots must be between 1 and 10");
+            }
 
-        return students;
+            InternshipOpportunity opp = new InternshipOpportunity(
+                    id,
+                    title,
+                    row.get(2),
+                    parseEnum(InternshipLevel.class, row.get(3), "Level", null),
+                    requireValue(row.get(4), "PreferredMajor"),
+                    company,
+                    rep.getUserID(),
+                    slots,
+                    parseDate(row.get(8), "OpeningDate", null),
+                    parseDate(row.get(9), "ClosingDate", null)
+            );
+            opp.setStatus(parseEnum(OpportunityStatus.class, row.get(10), "Status",
+                    OpportunityStatus.PENDING_APPROVAL));
+            opp.setVisible(parseBoolean(row.get(11), "Visible"));
+
+            pendingPerRep.merge(rep, 1, Integer::sum);
+            return opp;
+        }, batch -> {
+            for (InternshipOpportunity opp : batch) {
+                opportunityManager.addOpportunity(opp);
+                userManager.findRepresentative(opp.getRepID()).restoreInternship(opp);
+            }
+            pendingPerRep.clear();
+        });
     }
 
-    public static List<CompanyRepresentative> loadCompanyReps(String filePath) {
-        List<CompanyRepresentative> reps = new ArrayList<>();
+    public static ImportReport importApplications(String filePath, UserManager userManager,
+                                                  OpportunityManager opportunityManager,
+                                                  ApplicationManager applicationManager) {
+        return importApplications(filePath, userManager, opportunityManager, applicationManager, false);
+    }
+
+    /** requireIDs rejects rows with a blank ApplicationID; see importOpportunities. */
+    public static ImportReport importApplications(String filePath, UserManager userManager,
+                                                  OpportunityManager opportunityManager,
+                                                  ApplicationManager applicationManager,
+                                                  boolean requireIDs) {
+        Set<String> seen = new HashSet<>();
+        Set<String> seenPairs = new HashSet<>();
+
+        return importRows(filePath, row -> {
+            // Columns: see APPLICATION_HEADER
+            String id = row.get(0).isEmpty() && !requireIDs
+                    ? InternshipApplication.generateID()
+                    : requireValue(row.get(0), "ApplicationID");
+            Student student = userManager.findStudent(row.get(1));
+            if (student == null) {
+                throw new IllegalArgumentException("Unknown student '" + row.get(1) + "'");
+            }
+            InternshipOpportunity opp = opportunityManager.findByID(row.get(2));
+            if (opp == null) {
+                throw new IllegalArgumentException("Unknown internship '" + row.get(2) + "'");
+            }
+            ApplicationStatus status =
+                    parseEnum(ApplicationStatus.class, row.get(3), "Status", ApplicationStatus.PENDING);
+            LocalDate dateApplied = parseDate(row.get(5), "DateApplied", LocalDate.now());
 
-        for (String[] row : readCsv(filePath)) {
-            // Example assumption:
-            // [0] repID, [1] name, [2] email, [3] companyName, [4] department, [5] position
-            String id        = row[0].trim();
-            String name      = row[1].trim();
-            String email     = row[2].trim();
-            String company   = row[3].trim();
-            String dept      = row[4].trim();
-            String position  = row[5].trim();
+            InternshipApplication app = new InternshipApplication(id, student, opp, status, dateApplied);
+            if (applicationManager.findByID(app.getApplicationID()) != null
+                    || !seen.add(app.getApplicationID())) {
+                throw new IllegalArgumentException("Application ID " + id + " already exists");
+            }
 
-            CompanyRepresentative rep =
-                    new CompanyRepresentative(id, name, email, company, dept, position);
+            if (status != ApplicationStatus.WITHDRAWN) {
+                String pair = student.getUserID().toLowerCase() + "|" + opp.getInternshipID().toLowerCase();
+                boolean alreadyApplied = student.getApplications().stream()
+                        .anyMatch(a -> a.getOpportunity() == opp && a.getStatus() != ApplicationStatus.WITHDRAWN);
+                if (alreadyApplied || !seenPairs.add(pair)) {
+                    throw new IllegalArgumentException(student.getUserID()
+                            + " already has an active application for " + opp.getInternshipID());
+                }
+            }
 
-            // If your CSV has an "approved" column, you can read it and set here
-            // e.g. boolean approved = row[6].trim().equalsIgnoreCase("approved");
+            String previous = row.get(4);
+            if (!previous.isEmpty()) {
+                app.setPreviousStatus(parseEnum(ApplicationStatus.class, previous, "PreviousStatus", null));
+            }
+            app.setRemarks(row.get(6));
+            return app;
+        }, batch -> {
+            Set<InternshipOpportunity> touched = new LinkedHashSet<>();
+            for (InternshipApplication app : batch) {
+                Student student = app.getStudent();
+                student.getApplications().add(app);
+                app.getOpportunity().addApplication(app);
+                applicationManager.addApplication(app);
+                if (app.getStatus() == ApplicationStatus.CONFIRMED) {
+                    student.setAcceptedPlacement(app);
+                }
+                touched.add(app.getOpportunity());
+            }
+            // Once per affected opportunity, not per application
+            for (InternshipOpportunity opp : touched) {
+                opp.recalculateSlotsAndStatus();
+            }
+        });
+    }
 
-            reps.add(rep);
+    private static <T> ImportReport importRows(String filePath, Function<CsvRow, T> parse,
+                                               Consumer<List<T>> flush) {
+        List<T> batch = new ArrayList<>(BATCH_SIZE);
+        ImportReport report = CsvReader.stream(filePath, parse, item -> {
+            batch.add(item);
+            if (batch.size() == BATCH_SIZE) {
+                flush.accept(batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            flush.accept(batch);
         }
+        return report;
+    }
+
+    // ===================== EXPORT =====================
+    // Files use the same column layout the importers expect, so an export can be re-imported as-is
 
-        return reps;
+    public static int exportCompanyReps(String filePath, Collection<CompanyRepresentative> reps)
+            throws IOException {
+        try (CsvWriter out = new CsvWriter(filePath)) {
+            out.writeRow(REP_HEADER);
+            for (CompanyRepresentative rep : reps) {
+                out.writeRow(rep.getUserID(), rep.getName(), rep.getCompanyName(), rep.getDepartment(),
+                        rep.getPosition(), rep.getEmail(), rep.isApproved() ? "Approved" : "Pending");
+            }
+        }
+        return reps.size();
     }
 
-    public static List<CareerCenterStaff> loadStaff(String filePath) {
-        List<CareerCenterStaff> staff = new ArrayList<>();
+    public static int exportOpportunities(String filePath, Collection<InternshipOpportunity> opps)
+            throws IOException {
+        try (CsvWriter out = new CsvWriter(filePath)) {
+            out.writeRow(OPPORTUNITY_HEADER);
+            for (InternshipOpportunity opp : opps) {
+                out.writeRow(opp.getInternshipID(), opp.getTitle(), opp.getDescription(),
+                        opp.getLevel().name(), opp.getPreferredMajor(), opp.getCompanyName(), opp.getRepID(),
+                        String.valueOf(opp.getTotalSlots()), opp.getOpeningDate().format(DATE_FMT),
+                        opp.getClosingDate().format(DATE_FMT), opp.getStatus().name(),
+                        String.valueOf(opp.isVisible()));
+            }
+        }
+        return opps.size();
+    }
+
+    public static int exportApplications(String filePath, Collection<InternshipApplication> apps)
+            throws IOException {
+        try (CsvWriter out = new CsvWriter(filePath)) {
+            out.writeRow(APPLICATION_HEADER);
+            for (InternshipApplication app : apps) {
+                ApplicationStatus previous = app.getPreviousStatus();
+                out.writeRow(app.getApplicationID(), app.getStudent().getUserID(),
+                        app.getOpportunity().getInternshipID(), app.getStatus().name(),
+                        previous == null ? "" : previous.name(), app.getDateApplied().format(DATE_FMT),
+                        app.getRemarks());
+            }
+        }
+        return apps.size();
+    }
 
-        for (String[] row : readCsv(filePath)) {
-            // Example assumption:
-            // [0] staffID, [1] name, [2] email
-            String id    = row[0].trim();
-            String name  = row[1].trim();
-            String email = row[2].trim();
-            String dept = row[3].trim();
+    // ===================== FIELD VALIDATION =====================
 
-            staff.add(new CareerCenterStaff(id, name, email, dept));
+    private static String requireValue(String value, String column) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException(column + " is required");
         }
+        return value;
+    }
 
-        return staff;
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String column, E fallback) {
+        if (value.isEmpty()) {
+            if (fallback != null) return fallback;
+            throw new IllegalArgumentException(column + " is required");
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + column + " '" + value + "'");
+        }
     }
 
-    // OPTIONAL: if you have a CSV of opportunities, you can add this later
-    /*
-    public static List<InternshipOpportunity> loadOpportunities(String filePath) {
-        List<InternshipOpportunity> list = new ArrayList<>();
-        for (String[] row : readCsv(filePath)) {
-            // map columns to fields here
+    private static LocalDate parseDate(String value, String column, LocalDate fallback) {
+        if (value.isEmpty()) {
+            if (fallback != null) return fallback;
+            throw new IllegalArgumentException(column + " is required");
+        }
+        try {
+            return LocalDate.parse(value, DATE_FMT);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + column + " '" + value + "' (use yyyy-MM-dd)");
         }
-        return list;
     }
-    */
-}
 
+    private static boolean parseBoolean(String value, String column) {
+        return switch (value.toLowerCase()) {
+            case "", "false", "no", "n" -> false;
+            case "true", "yes", "y" -> true;
+            default -> throw new IllegalArgumentException("Invalid " + column + " '" + value + "'");
+        };
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Source of unique IDs for applications and opportunities.
+ * Implementations must be safe to call from multiple threads.
+ */
+public interface IdGenerator {
+    String nextId();
+}
@@ -0,0 +1,47 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a CSV import: how many rows were imported or skipped, and why
+ * each skipped row was rejected (with its line number).
+ */
+public class ImportReport {
+
+    private static final int MAX_PROBLEMS_KEPT = 200;
+
+    private final String source;
+    private long imported;
+    private long skipped;
+    private final List<String> problems = new ArrayList<>();
+
+    public ImportReport(String source) {
+        this.source = source;
+    }
+
+    public synchronized void imported(long count) {
+        imported += count;
+    }
+
+    public synchronized void skip(long line, String reason) {
+        skipped++;
+        if (problems.size() < MAX_PROBLEMS_KEPT) {
+            problems.add("line " + line + ": " + reason);
+        }
+    }
+
+    public String getSource()         { return source; }
+    public synchronized long getImported()  { return imported; }
+    public synchronized long getSkipped()   { return skipped; }
+    public synchronized List<String> getProblems() { return new ArrayList<>(problems); }
+
+    public void print() {
+        System.out.println(source + ": imported " + getImported() + ", skipped " + getSkipped());
+        List<String> shown = getProblems();
+        for (String p : shown) {
+            System.out.println("  " + p);
+        }
+        if (getSkipped() > shown.size()) {
+            System.out.println("  ... and " + (getSkipped() - shown.size()) + " more");
+        }
+    }
+}
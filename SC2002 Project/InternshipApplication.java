@@ -1,24 +1,44 @@
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class InternshipApplication {
+    private static volatile IdGenerator idGenerator = new SnowflakeIdGenerator("APP");
+
     private final String applicationID;
     private final Student student;
     private final InternshipOpportunity opportunity;
-    private ApplicationStatus status;
+    private volatile ApplicationStatus status;
     private final LocalDate dateApplied;
-    private String remarks;
-    private ApplicationStatus previousStatus; // to restore after withdrawal rejection
+    private volatile String remarks;
+    private volatile ApplicationStatus previousStatus; // to restore after withdrawal rejection
+    private volatile LocalDate withdrawalRequestDate;  // when the pending withdrawal was requested, if known
+    private final List<ApplicationListener> listeners = new CopyOnWriteArrayList<>();
 
     public InternshipApplication(Student student, InternshipOpportunity opportunity) {
-        this.applicationID = "APP-" + System.currentTimeMillis();
+        this(generateID(), student, opportunity, ApplicationStatus.PENDING, LocalDate.now());
+    }
+
+    // Used when restoring an existing application (storage replay, CSV import)
+    public InternshipApplication(String applicationID, Student student, InternshipOpportunity opportunity,
+                                 ApplicationStatus status, LocalDate dateApplied) {
+        this.applicationID = Objects.requireNonNull(applicationID).trim();
         this.student       = Objects.requireNonNull(student);
         this.opportunity   = Objects.requireNonNull(opportunity);
-        this.status        = ApplicationStatus.PENDING;
-        this.dateApplied   = LocalDate.now();
+        this.status        = Objects.requireNonNull(status);
+        this.dateApplied   = Objects.requireNonNull(dateApplied);
         this.remarks       = "";
     }
 
+    public static String generateID() {
+        return idGenerator.nextId();
+    }
+
+    public static void setIdGenerator(IdGenerator generator) {
+        idGenerator = Objects.requireNonNull(generator);
+    }
+
     public String getApplicationID()           { return applicationID; }
     public Student getStudent()                { return student; }
     public InternshipOpportunity getOpportunity() { return opportunity; }
@@ -26,9 +46,33 @@ public class InternshipApplication {
     public LocalDate getDateApplied()          { return dateApplied; }
     public String getRemarks()                 { return remarks; }
 
-    public void setStatus(ApplicationStatus status) { this.status = status; }
+    // Serialised on the opportunity's lock, so its slot counters see every transition in order
+    public void setStatus(ApplicationStatus status) {
+        Objects.requireNonNull(status);
+        synchronized (opportunity.lock()) {
+            ApplicationStatus oldStatus = this.status;
+            if (oldStatus == status) return;
+            this.status = status;
+            for (ApplicationListener l : listeners) {
+                l.onStatusChanged(this, oldStatus, status);
+            }
+        }
+    }
+
+    /**
+     * Atomically moves from expected to the new status. Returns false (and changes
+     * nothing) if another session changed the status first.
+     */
+    public boolean compareAndSetStatus(ApplicationStatus expected, ApplicationStatus status) {
+        synchronized (opportunity.lock()) {
+            if (this.status != expected) return false;
+            setStatus(status);
+            return true;
+        }
+    }
     public void setRemarks(String remarks) {
         this.remarks = remarks == null ? "" : remarks.trim();
+        fireDetailsChanged();
     }
 
     @Override
@@ -44,7 +88,36 @@ public class InternshipApplication {
     }
 
     public void setPreviousStatus(ApplicationStatus previousStatus) {
+        if (this.previousStatus == previousStatus) return;
         this.previousStatus = previousStatus;
+        fireDetailsChanged();
+    }
+
+    // Null when unknown (imported requests, data saved before this was recorded)
+    public LocalDate getWithdrawalRequestDate() {
+        return withdrawalRequestDate;
+    }
+
+    public void setWithdrawalRequestDate(LocalDate date) {
+        if (Objects.equals(this.withdrawalRequestDate, date)) return;
+        this.withdrawalRequestDate = date;
+        fireDetailsChanged();
+    }
+
+    public void addListener(ApplicationListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeListener(ApplicationListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void fireDetailsChanged() {
+        for (ApplicationListener l : listeners) {
+            l.onDetailsChanged(this);
+        }
     }
 
 }
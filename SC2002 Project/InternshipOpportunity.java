@@ -1,23 +1,59 @@
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.time.LocalDate;
 
+/**
+ * An internship posting.
+ *
+ * Thread safety: one lock per opportunity guards its status, slots, application list
+ * and counters, and also the status of every application made to it, so all slot
+ * accounting for a posting is serialised without a global lock. Lock order is
+ * Student, then InternshipOpportunity; never take a Student lock while holding this one.
+ *
+ * Slots are claimed lock-free: a confirmation first reserves a slot with tryReserveSlot
+ * (a CAS on claimedSlots), so a full posting turns confirmations away without waiting
+ * on the lock. A confirmed placement keeps its slot while its withdrawal request is
+ * pending and gives it back only once withdrawn, so rejecting the request can never
+ * overbook the posting. Only data loaded as CONFIRMED (imports, saved data) is taken
+ * as it is, even past totalSlots.
+ */
 public class InternshipOpportunity {
+    private static volatile IdGenerator idGenerator = new SnowflakeIdGenerator("INT");
+
     private final String internshipID;
     private final String title;
     private final String description;
     private final InternshipLevel level;
     private final String preferredMajor;
-    private OpportunityStatus status;
+    private volatile OpportunityStatus status;
     private final String companyName;
     private final String repID;
     private final int totalSlots;
-    private int slotsAvailable;
-    private boolean visible;
+    private volatile int slotsAvailable;
+    private volatile boolean visible;
     private LocalDate openingDate;
     private LocalDate closingDate;
     private final List<InternshipApplication> applications = new ArrayList<>();
+    private final List<OpportunityListener> listeners = new CopyOnWriteArrayList<>();
+    private final Object lock = new Object();
+
+    // Live number of applications in each status, indexed by ApplicationStatus.ordinal()
+    private final int[] statusCounts = new int[ApplicationStatus.values().length];
+    private final ApplicationListener statusTracker = this::applicationStatusChanged;
+
+    // Slots held by CONFIRMED applications plus reservations not yet confirmed
+    private final AtomicInteger claimedSlots = new AtomicInteger();
+    // Applications holding a slot: CONFIRMED, or CONFIRMED with a withdrawal request pending (guarded by lock)
+    private final Set<InternshipApplication> slotHolders = new HashSet<>();
+    private int batchDepth;   // > 0 while updateApplications runs; recalculation waits for its end (guarded by lock)
+    private final Set<InternshipApplication> reservations = ConcurrentHashMap.newKeySet();
 
     public InternshipOpportunity(String internshipID, String title, String description,
                                  InternshipLevel level, String preferredMajor,
@@ -45,11 +81,38 @@ public class InternshipOpportunity {
         this.closingDate = closingDate;
     }
 
+    public static String generateID() {
+        return idGenerator.nextId();
+    }
+
+    public static void setIdGenerator(IdGenerator generator) {
+        idGenerator = Objects.requireNonNull(generator);
+    }
+
     public void addApplication(InternshipApplication app) {
         if (app == null) return;
-        applications.add(app);
+        synchronized (lock) {
+            applications.add(app);
+            app.addListener(statusTracker);
+            applicationStatusChanged(app, null, app.getStatus());
+        }
+    }
+
+    public boolean removeApplication(InternshipApplication app) {
+        synchronized (lock) {
+            if (!applications.remove(app)) return false;
+            app.removeListener(statusTracker);
+            releaseSlot(app);
+            applicationStatusChanged(app, app.getStatus(), null);
+            return true;
         }
- 
+    }
+
+    // Lock guarding this opportunity and the status of its applications (see class comment)
+    Object lock() {
+        return lock;
+    }
+
 
     public String getInternshipID()         { return internshipID; }
     public String getTitle()                { return title; }
@@ -57,33 +120,179 @@ public class InternshipOpportunity {
     public InternshipLevel getLevel()       { return level; }
     public String getPreferredMajor()       { return preferredMajor; }
     public OpportunityStatus getStatus()    { return status; }
-    public void setStatus(OpportunityStatus status) { this.status = status; }
+    public void setStatus(OpportunityStatus status) {
+        Objects.requireNonNull(status);
+        synchronized (lock) {
+            changeStatus(status);
+        }
+    }
     public String getCompanyName()          { return companyName; }
     public String getRepID()                { return repID; }
     public int getSlotsAvailable()          { return slotsAvailable; }
     public int getTotalSlots()              {return totalSlots;}
     public boolean isVisible()              { return visible; }
-    public void setVisible(boolean visible) { this.visible = visible; }
-    public List<InternshipApplication> getApplications() { return applications; }
+    public void setVisible(boolean visible) {
+        synchronized (lock) {
+            if (this.visible == visible) return;
+            this.visible = visible;
+            for (OpportunityListener l : listeners) {
+                l.onVisibilityChanged(this);
+            }
+        }
+    }
 
-    public void recalculateSlotsAndStatus() {
-        int confirmedCount = 0;
-        for (InternshipApplication app : applications) {
-            if (app.getStatus() == ApplicationStatus.CONFIRMED) {
-                confirmedCount++;
+    // Point-in-time copy; add/remove through addApplication / removeApplication
+    public List<InternshipApplication> getApplications() {
+        synchronized (lock) {
+            return Collections.unmodifiableList(new ArrayList<>(applications));
+        }
+    }
+
+    // ========== APPLICATION COUNTS ==========
+
+    public int getApplicationCount() {
+        synchronized (lock) {
+            return applications.size();
+        }
+    }
+
+    public int getApplicationCount(ApplicationStatus status) {
+        synchronized (lock) {
+            return statusCounts[status.ordinal()];
+        }
+    }
+
+    /** Consistent copy of all per-status counts, indexed by ApplicationStatus.ordinal(). */
+    public int[] getApplicationCounts() {
+        return getApplicationCounts(null);
+    }
+
+    /** Same, copied into into (reused by callers reading many postings); null allocates. */
+    public int[] getApplicationCounts(int[] into) {
+        synchronized (lock) {
+            if (into == null) return statusCounts.clone();
+            System.arraycopy(statusCounts, 0, into, 0, statusCounts.length);
+            return into;
+        }
+    }
+
+    // Every status transition of one of our applications lands here as a (-1, +1) delta.
+    // Always runs under lock: InternshipApplication.setStatus takes it before firing.
+    private void applicationStatusChanged(InternshipApplication app, ApplicationStatus oldStatus,
+                                          ApplicationStatus newStatus) {
+        if (oldStatus != null) statusCounts[oldStatus.ordinal()]--;
+        if (newStatus != null) statusCounts[newStatus.ordinal()]++;
+        for (OpportunityListener l : listeners) {
+            l.onApplicationStatusChanged(this, app, oldStatus, newStatus);
+        }
+
+        boolean held = slotHolders.contains(app);
+        boolean holds = newStatus == ApplicationStatus.CONFIRMED
+                || (newStatus == ApplicationStatus.WITHDRAW_REQUESTED
+                    && (held || (oldStatus == null && app.getPreviousStatus() == ApplicationStatus.CONFIRMED)));
+        if (holds == held) return;
+
+        if (holds) {
+            slotHolders.add(app);
+            if (!reservations.remove(app)) {
+                // Loaded as confirmed (import, saved data): the data wins, even past capacity
+                claimedSlots.incrementAndGet();
+            }
+        } else {
+            slotHolders.remove(app);
+            claimedSlots.decrementAndGet();
+        }
+        if (batchDepth == 0) {
+            recalculateSlotsAndStatus();
+        }
+    }
+
+    /**
+     * Runs changes to several of this posting's applications under its lock, so other
+     * sessions see them together, and recalculates slots and status once at the end
+     * instead of after every application that takes or gives back a slot.
+     */
+    public void updateApplications(Runnable changes) {
+        synchronized (lock) {
+            batchDepth++;
+            try {
+                changes.run();
+            } finally {
+                if (--batchDepth == 0) {
+                    recalculateSlotsAndStatus();
+                }
             }
         }
+    }
+
+    // ========== SLOT RESERVATION ==========
+
+    /**
+     * Claims one slot for app ahead of confirming it. Lock-free; returns false at once
+     * when every slot is taken. The reservation becomes the application's slot when it
+     * turns CONFIRMED; otherwise hand it back with releaseSlot.
+     */
+    public boolean tryReserveSlot(InternshipApplication app) {
+        Objects.requireNonNull(app);
+        while (true) {
+            int claimed = claimedSlots.get();
+            if (claimed >= totalSlots) return false;
+            if (claimedSlots.compareAndSet(claimed, claimed + 1)) break;
+        }
+        if (!reservations.add(app)) {
+            claimedSlots.decrementAndGet(); // already held a reservation
+        }
+        return true;
+    }
+
+    /** Gives back a reservation that was not confirmed. No-op if app holds none. */
+    public void releaseSlot(InternshipApplication app) {
+        if (reservations.remove(app)) {
+            claimedSlots.decrementAndGet();
+        }
+    }
 
-        slotsAvailable = Math.max(0, totalSlots - confirmedCount);
+    public int getClaimedSlots() {
+        return claimedSlots.get();
+    }
+
+    // O(1): slots come from the live set of slot holders. Kept public for callers that
+    // change the opportunity status directly (e.g. approval) and want FILLED re-applied.
+    public void recalculateSlotsAndStatus() {
+        synchronized (lock) {
+            slotsAvailable = Math.max(0, totalSlots - slotHolders.size());
 
-        if (status == OpportunityStatus.APPROVED || status == OpportunityStatus.FILLED) {
-            if (slotsAvailable == 0) {
-                status = OpportunityStatus.FILLED;
-            } else {
-                status = OpportunityStatus.APPROVED;
+            if (status == OpportunityStatus.APPROVED || status == OpportunityStatus.FILLED) {
+                if (slotsAvailable == 0) {
+                    changeStatus(OpportunityStatus.FILLED);
+                } else {
+                    changeStatus(OpportunityStatus.APPROVED);
+                }
             }
         }
     }
+
+    // ========== LISTENERS ==========
+
+    public void addListener(OpportunityListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeListener(OpportunityListener listener) {
+        listeners.remove(listener);
+    }
+
+    // All status writes go through here (under lock) so listeners such as the manager indexes stay in sync
+    private void changeStatus(OpportunityStatus newStatus) {
+        OpportunityStatus oldStatus = this.status;
+        if (oldStatus == newStatus) return;
+        this.status = newStatus;
+        for (OpportunityListener l : listeners) {
+            l.onStatusChanged(this, oldStatus, newStatus);
+        }
+    }
     
     public LocalDate getOpeningDate() { return openingDate; }
     public LocalDate getClosingDate() { return closingDate; }
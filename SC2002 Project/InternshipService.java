@@ -0,0 +1,592 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Headless business operations: everything the menus can do to applications and
+ * postings, without a Scanner or System.out. Every operation returns an
+ * OperationResult; the controllers print its message, batch runs and benchmarks
+ * just count it.
+ *
+ * Operations come in two forms: by ID (for scripts and batches) and by object (for
+ * the menus, which already hold the user and the selected item). Both share the same
+ * rules and the same concurrency guards as before (compare-and-set on statuses,
+ * per-posting locks), so headless callers and console sessions can run side by side.
+ */
+public class InternshipService {
+
+    private static final Metrics.Timer WITHDRAWAL_DECISION_TIMER = Metrics.timer("staff.withdrawals.decide");
+    private static final Metrics.Counter WITHDRAWALS_APPROVED = Metrics.counter("staff.withdrawals.approved");
+    private static final Metrics.Counter WITHDRAWALS_REJECTED = Metrics.counter("staff.withdrawals.rejected");
+    private static final Metrics.Timer BATCH_DECISION_TIMER = Metrics.timer("rep.applications.decide.batch");
+    private static final Metrics.Timer BULK_WITHDRAWAL_TIMER = Metrics.timer("staff.withdrawals.bulk");
+    private static final Metrics.Counter AUTO_APPROVED = Metrics.counter("opportunities.autoApproved");
+
+    private final UserManager userManager;
+    private final OpportunityManager opportunityManager;
+    private final ApplicationManager applicationManager;
+
+    public InternshipService(UserManager userManager,
+                             OpportunityManager opportunityManager,
+                             ApplicationManager applicationManager) {
+        this.userManager = userManager;
+        this.opportunityManager = opportunityManager;
+        this.applicationManager = applicationManager;
+    }
+
+    // ========== STUDENTS ==========
+
+    public OperationResult<InternshipApplication> applyForInternship(String studentID, String internshipID) {
+        Student student = userManager.findStudent(studentID);
+        if (student == null) return notFound("No student with ID " + studentID + ".");
+        InternshipOpportunity opp = opportunityManager.findByID(internshipID);
+        if (opp == null) return notFound("No internship found with ID " + internshipID + ".");
+        return applyForInternship(student, opp);
+    }
+
+    public OperationResult<InternshipApplication> applyForInternship(Student student, InternshipOpportunity opp) {
+        OperationResult<InternshipApplication> result = student.submitApplication(opp);
+        if (result.isOk()) {
+            applicationManager.addApplication(result.getValue());
+        }
+        return result;
+    }
+
+    public OperationResult<InternshipApplication> confirmOffer(String studentID, String applicationID) {
+        Student student = userManager.findStudent(studentID);
+        if (student == null) return notFound("No student with ID " + studentID + ".");
+        return confirmOffer(student, findApplication(applicationID));
+    }
+
+    public OperationResult<InternshipApplication> confirmOffer(Student student, InternshipApplication app) {
+        return student.confirmOffer(app);
+    }
+
+    public OperationResult<InternshipApplication> requestWithdrawal(String studentID, String applicationID) {
+        Student student = userManager.findStudent(studentID);
+        if (student == null) return notFound("No student with ID " + studentID + ".");
+        return requestWithdrawal(student, findApplication(applicationID));
+    }
+
+    public OperationResult<InternshipApplication> requestWithdrawal(Student student, InternshipApplication app) {
+        return student.submitWithdrawalRequest(app);
+    }
+
+    // ========== COMPANY REPRESENTATIVES ==========
+
+    public OperationResult<InternshipApplication> decideApplication(String repID, String applicationID,
+                                                                    boolean approve, String remarks) {
+        CompanyRepresentative rep = userManager.findRepresentative(repID);
+        if (rep == null) return notFound("No company representative with ID " + repID + ".");
+        InternshipApplication app = findApplication(applicationID);
+        if (app == null) return notFound("No application found with ID " + applicationID + ".");
+        return decideApplication(rep, app, approve, remarks);
+    }
+
+    /** Approve (SUCCESSFUL) or reject (UNSUCCESSFUL) an application to one of rep's postings. */
+    public OperationResult<InternshipApplication> decideApplication(CompanyRepresentative rep,
+                                                                    InternshipApplication app,
+                                                                    boolean approve, String remarks) {
+        return decide(rep, app, app.getStatus(), approve, remarks);
+    }
+
+    /** One application of a bulk decision, with the status it was decided from. */
+    public record Decision(InternshipApplication application, ApplicationStatus from,
+                           OperationResult<InternshipApplication> result) {}
+
+    /**
+     * Applies the same decision and remarks to every application, in one pass and in
+     * order. Each one is checked and changed on its own, exactly as decideApplication
+     * does, so one that was withdrawn or changed meanwhile is skipped, not fatal.
+     */
+    public List<Decision> decideApplications(CompanyRepresentative rep,
+                                             Collection<InternshipApplication> apps,
+                                             boolean approve, String remarks) {
+        long start = Metrics.start();
+        List<Decision> decisions = new ArrayList<>(apps.size());
+        for (InternshipApplication app : apps) {
+            ApplicationStatus from = app.getStatus();
+            decisions.add(new Decision(app, from, decide(rep, app, from, approve, remarks)));
+        }
+        BATCH_DECISION_TIMER.stop(start);
+        return decisions;
+    }
+
+    /** True if a company rep may still approve or reject an application in this status. */
+    public static boolean isDecidable(ApplicationStatus status) {
+        return status == ApplicationStatus.PENDING
+                || status == ApplicationStatus.SUCCESSFUL
+                || status == ApplicationStatus.UNSUCCESSFUL;
+    }
+
+    // st is the status the caller saw; the change only happens if it still holds
+    private OperationResult<InternshipApplication> decide(CompanyRepresentative rep,
+                                                          InternshipApplication app,
+                                                          ApplicationStatus st,
+                                                          boolean approve, String remarks) {
+        if (!app.getOpportunity().getRepID().equalsIgnoreCase(rep.getUserID())) {
+            return OperationResult.fail(OperationResult.Status.NOT_ALLOWED,
+                    "You are not the owner of this internship.");
+        }
+
+        if (st == ApplicationStatus.WITHDRAWN) {
+            return OperationResult.fail(OperationResult.Status.INVALID_STATE,
+                    "This application has been withdrawn by the student and can no longer be approved or rejected.");
+        }
+        if (st == ApplicationStatus.WITHDRAW_REQUESTED) {
+            return OperationResult.fail(OperationResult.Status.INVALID_STATE,
+                    "The student has requested to withdraw this application. "
+                    + "It is pending review by Career Center Staff and cannot be approved or rejected.");
+        }
+        if (!isDecidable(st)) {
+            // A CONFIRMED placement holds a slot and the student's other applications are withdrawn
+            return OperationResult.fail(OperationResult.Status.INVALID_STATE,
+                    "This application is " + st + " and can no longer be approved or rejected.");
+        }
+
+        // Compare-and-set: the student may have withdrawn from another session meanwhile
+        ApplicationStatus decision = approve ? ApplicationStatus.SUCCESSFUL : ApplicationStatus.UNSUCCESSFUL;
+        if (!app.compareAndSetStatus(st, decision)) {
+            return OperationResult.fail(OperationResult.Status.CONFLICT,
+                    "This application was updated in the meantime. Please review it again.");
+        }
+        if (remarks != null && !remarks.trim().isEmpty()) {
+            app.setRemarks(remarks);
+        }
+        return OperationResult.ok(app, "Application " + app.getApplicationID()
+                + (approve ? " approved." : " rejected."));
+    }
+
+    public OperationResult<InternshipOpportunity> setVisibility(String repID, String internshipID, boolean visible) {
+        CompanyRepresentative rep = userManager.findRepresentative(repID);
+        if (rep == null) return notFound("No company representative with ID " + repID + ".");
+        InternshipOpportunity opp = opportunityManager.findByID(internshipID);
+        if (opp == null) return notFound("No internship found with ID " + internshipID + ".");
+        if (!opp.getRepID().equalsIgnoreCase(rep.getUserID())) {
+            return OperationResult.fail(OperationResult.Status.NOT_ALLOWED,
+                    "You are not the owner of this internship.");
+        }
+        opp.setVisible(visible);
+        return OperationResult.ok(opp, "Visibility for " + opp.getTitle() + ": " + visible);
+    }
+
+    // ========== CAREER CENTER STAFF ==========
+
+    public OperationResult<CompanyRepresentative> approveRepresentative(String repID) {
+        CompanyRepresentative rep = userManager.findRepresentative(repID);
+        if (rep == null) return notFound("No such representative.");
+        return approveRepresentative(rep);
+    }
+
+    public OperationResult<CompanyRepresentative> approveRepresentative(CompanyRepresentative rep) {
+        rep.setApproved(true);
+        return OperationResult.ok(rep, "Approved company representative: " + rep.getName());
+    }
+
+    public OperationResult<InternshipOpportunity> approveOpportunity(String internshipID) {
+        InternshipOpportunity opp = opportunityManager.findByID(internshipID);
+        if (opp == null) return notFound("No internship found with ID " + internshipID + ".");
+        return approveOpportunity(opp);
+    }
+
+    /** Approves a posting and makes it visible to students. */
+    public OperationResult<InternshipOpportunity> approveOpportunity(InternshipOpportunity opp) {
+        synchronized (opp.lock()) {
+            OpportunityStatus st = opp.getStatus();
+            if (st == OpportunityStatus.APPROVED || st == OpportunityStatus.FILLED) {
+                return OperationResult.fail(OperationResult.Status.INVALID_STATE,
+                        "Internship is already approved: " + opp.getTitle());
+            }
+            opp.setStatus(OpportunityStatus.APPROVED);
+            opp.setVisible(true);
+        }
+        return OperationResult.ok(opp, "Approved internship: " + opp.getTitle());
+    }
+
+    public OperationResult<InternshipOpportunity> rejectOpportunity(String internshipID) {
+        InternshipOpportunity opp = opportunityManager.findByID(internshipID);
+        if (opp == null) return notFound("No internship found with ID " + internshipID + ".");
+        return rejectOpportunity(opp);
+    }
+
+    public OperationResult<InternshipOpportunity> rejectOpportunity(InternshipOpportunity opp) {
+        opp.setStatus(OpportunityStatus.REJECTED);
+        return OperationResult.ok(opp, "Rejected internship: " + opp.getTitle());
+    }
+
+    /**
+     * Approves a new posting at once if the Career Center's auto-approval rules admit
+     * it; otherwise it stays PENDING_APPROVAL for staff (NOT_ALLOWED).
+     */
+    public OperationResult<InternshipOpportunity> autoApprove(CompanyRepresentative rep, InternshipOpportunity opp) {
+        if (!opportunityManager.getAutoApprovalRules().admits(rep, opp)) {
+            return OperationResult.fail(OperationResult.Status.NOT_ALLOWED,
+                    "Waiting for Career Center Staff approval: " + opp.getTitle());
+        }
+        OperationResult<InternshipOpportunity> result = approveOpportunity(opp);
+        if (!result.isOk()) {
+            return result;
+        }
+        AUTO_APPROVED.increment();
+        return OperationResult.ok(opp, "Approved automatically under the Career Center's rules "
+                + "and now visible to students: " + opp.getTitle());
+    }
+
+    /**
+     * Approves or rejects every given posting that is still PENDING_APPROVAL, in one
+     * pass; postings in any other status are skipped (INVALID_STATE), so a broad
+     * filter can never reject a live posting.
+     */
+    public List<OperationResult<InternshipOpportunity>> decideOpportunities(
+            Collection<InternshipOpportunity> opps, boolean approve) {
+        List<OperationResult<InternshipOpportunity>> results = new ArrayList<>(opps.size());
+        for (InternshipOpportunity opp : opps) {
+            synchronized (opp.lock()) {
+                if (opp.getStatus() != OpportunityStatus.PENDING_APPROVAL) {
+                    results.add(OperationResult.fail(OperationResult.Status.INVALID_STATE,
+                            "No longer pending approval: " + opp.getTitle() + " (" + opp.getStatus() + ")"));
+                } else {
+                    results.add(approve ? approveOpportunity(opp) : rejectOpportunity(opp));
+                }
+            }
+        }
+        return results;
+    }
+
+    /** Pending postings the current auto-approval rules admit, e.g. after the rules change. */
+    public List<InternshipOpportunity> findAutoApprovable() {
+        AutoApprovalRules rules = opportunityManager.getAutoApprovalRules();
+        return opportunityManager.streamOpportunities(OpportunityStatus.PENDING_APPROVAL, null, null, null)
+                .filter(opp -> rules.admits(userManager.findRepresentative(opp.getRepID()), opp))
+                .collect(Collectors.toList());
+    }
+
+    public OperationResult<InternshipApplication> approveWithdrawal(String applicationID) {
+        InternshipApplication app = findApplication(applicationID);
+        if (app == null) return notFound("No application found with ID " + applicationID + ".");
+        if (app.getStatus() != ApplicationStatus.WITHDRAW_REQUESTED) return noWithdrawalRequest(app);
+        return approveWithdrawal(app);
+    }
+
+    /**
+     * WITHDRAW_REQUESTED -> WITHDRAWN. A confirmed placement held its slot while the
+     * request was pending; it gives it back now and the posting reopens if it was FILLED.
+     */
+    public OperationResult<InternshipApplication> approveWithdrawal(InternshipApplication app) {
+        long start = Metrics.start();
+        OperationResult<InternshipApplication> result = withdraw(app);
+        if (result.isOk()) {
+            WITHDRAWAL_DECISION_TIMER.stop(start);
+        }
+        return result;
+    }
+
+    // The posting recalculates its slots when the placement gives its slot back
+    private OperationResult<InternshipApplication> withdraw(InternshipApplication app) {
+        if (!app.compareAndSetStatus(ApplicationStatus.WITHDRAW_REQUESTED, ApplicationStatus.WITHDRAWN)) {
+            return alreadyHandled();
+        }
+        // Clear previous status (no longer needed)
+        app.setPreviousStatus(null);
+
+        Student st = app.getStudent();
+        if (st.getAcceptedPlacement() == app) {
+            st.setAcceptedPlacement(null);
+        }
+        WITHDRAWALS_APPROVED.increment();
+        return OperationResult.ok(app, "Withdrawal approved for application: " + app.getApplicationID());
+    }
+
+    public OperationResult<InternshipApplication> rejectWithdrawal(String applicationID) {
+        InternshipApplication app = findApplication(applicationID);
+        if (app == null) return notFound("No application found with ID " + applicationID + ".");
+        if (app.getStatus() != ApplicationStatus.WITHDRAW_REQUESTED) return noWithdrawalRequest(app);
+        return rejectWithdrawal(app);
+    }
+
+    /** Puts the application back in the status it had before the request. */
+    public OperationResult<InternshipApplication> rejectWithdrawal(InternshipApplication app) {
+        long start = Metrics.start();
+        OperationResult<InternshipApplication> result = restore(app);
+        if (result.isOk()) {
+            WITHDRAWAL_DECISION_TIMER.stop(start);
+        }
+        return result;
+    }
+
+    private OperationResult<InternshipApplication> restore(InternshipApplication app) {
+        // Restore the previous status (e.g. CONFIRMED)
+        ApplicationStatus prev = app.getPreviousStatus();
+        if (prev == null && app.getStudent().getAcceptedPlacement() == app) {
+            // Fallback: if no previousStatus stored but this is the accepted placement,
+            // assume it should be CONFIRMED
+            prev = ApplicationStatus.CONFIRMED;
+        }
+        // Another staff session may already have handled this request
+        if (prev != null && !app.compareAndSetStatus(ApplicationStatus.WITHDRAW_REQUESTED, prev)) {
+            return alreadyHandled();
+        }
+
+        // Add remark about the rejection
+        String existingRemarks = app.getRemarks();
+        String extra = "Withdrawal request rejected by Career Center Staff.";
+        if (existingRemarks == null || existingRemarks.isBlank()) {
+            app.setRemarks(extra);
+        } else {
+            app.setRemarks(existingRemarks + " | " + extra);
+        }
+
+        WITHDRAWALS_REJECTED.increment();
+        return OperationResult.ok(app, "Withdrawal not approved.");
+    }
+
+    // ---------- Bulk withdrawal decisions ----------
+
+    /**
+     * Rule: requests for postings that are currently FILLED. A confirmed placement keeps
+     * its slot until its withdrawal is approved, so approving these is what reopens a full
+     * posting; rejecting them keeps it exactly full.
+     */
+    public static Predicate<InternshipApplication> forFilledOpportunities() {
+        return app -> app.getOpportunity().getStatus() == OpportunityStatus.FILLED;
+    }
+
+    /**
+     * Rule: requests made on or before cutoff. Requests without a recorded date
+     * (imported ones) count from the date the student applied.
+     */
+    public static Predicate<InternshipApplication> requestedOnOrBefore(LocalDate cutoff) {
+        return app -> {
+            LocalDate requested = app.getWithdrawalRequestDate();
+            return !(requested != null ? requested : app.getDateApplied()).isAfter(cutoff);
+        };
+    }
+
+    /** Rule: requests for any posting of one company (case-insensitive). */
+    public static Predicate<InternshipApplication> forCompany(String companyName) {
+        return app -> app.getOpportunity().getCompanyName().equalsIgnoreCase(companyName.trim());
+    }
+
+    /** Pending withdrawal requests the rule selects, for review before decideWithdrawals. */
+    public List<InternshipApplication> findWithdrawalRequests(Predicate<? super InternshipApplication> rule) {
+        List<InternshipApplication> matched = new ArrayList<>();
+        for (InternshipApplication app : applicationManager.getApplicationsByStatus(ApplicationStatus.WITHDRAW_REQUESTED)) {
+            if (rule.test(app)) matched.add(app);
+        }
+        return matched;
+    }
+
+    /**
+     * Approves or rejects every given withdrawal request in one pass, one posting at a
+     * time: each posting's requests are decided under that posting's lock, so other
+     * sessions see all of them change together. Approved placements give their slots
+     * back, and the posting's slots and FILLED status are recalculated once at the end
+     * instead of once per request; rejected ones never gave theirs up, so a rejection
+     * cannot overbook. Requests another session handled first are skipped. Postings are
+     * not locked all at once, so a failure part-way leaves earlier postings decided.
+     */
+    public List<Decision> decideWithdrawals(Collection<InternshipApplication> requests, boolean approve) {
+        long start = Metrics.start();
+        Map<InternshipOpportunity, List<InternshipApplication>> byOpportunity = new LinkedHashMap<>();
+        for (InternshipApplication app : requests) {
+            byOpportunity.computeIfAbsent(app.getOpportunity(), k -> new ArrayList<>()).add(app);
+        }
+
+        List<Decision> decisions = new ArrayList<>(requests.size());
+        for (Map.Entry<InternshipOpportunity, List<InternshipApplication>> e : byOpportunity.entrySet()) {
+            e.getKey().updateApplications(() -> {
+                for (InternshipApplication app : e.getValue()) {
+                    ApplicationStatus from = app.getStatus();
+                    OperationResult<InternshipApplication> result;
+                    if (from != ApplicationStatus.WITHDRAW_REQUESTED) {
+                        result = alreadyHandled();
+                    } else {
+                        result = approve ? withdraw(app) : restore(app);
+                    }
+                    decisions.add(new Decision(app, from, result));
+                }
+            });
+        }
+        BULK_WITHDRAWAL_TIMER.stop(start);
+        return decisions;
+    }
+
+    // ========== COMMANDS / BATCHES ==========
+
+    /**
+     * One scripted operation. Text form, one per line (IDs as in the menus; an
+     * applicationID may also be written studentID/internshipID):
+     *
+     *   apply               studentID internshipID
+     *   confirm             studentID applicationID
+     *   withdraw            studentID applicationID
+     *   decide              repID applicationID approve|reject [remarks...]
+     *   visibility          repID internshipID on|off
+     *   approve-rep         repID
+     *   approve-opportunity internshipID
+     *   reject-opportunity  internshipID
+     *   approve-withdrawal  applicationID
+     *   reject-withdrawal   applicationID
+     */
+    public record Command(String operation, String[] args) {
+
+        /** Parses one line; returns null for blank lines and # comments. */
+        public static Command parse(String line) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) return null;
+            String[] words = trimmed.split("\\s+", 2);
+            String[] args = words.length > 1 ? words[1].split("\\s+", 4) : new String[0];
+            return new Command(words[0].toLowerCase(Locale.ROOT), args);
+        }
+
+        String arg(int i) {
+            return i < args.length ? args[i] : null;
+        }
+    }
+
+    public OperationResult<?> execute(Command c) {
+        int needed = switch (c.operation()) {
+            case "apply", "confirm", "withdraw" -> 2;
+            case "decide", "visibility" -> 3;
+            case "approve-rep", "approve-opportunity", "reject-opportunity",
+                 "approve-withdrawal", "reject-withdrawal" -> 1;
+            default -> -1;
+        };
+        if (needed < 0) {
+            return invalid("Unknown operation: " + c.operation());
+        }
+        if (c.args().length < needed) {
+            return invalid(c.operation() + " needs " + needed + " argument(s).");
+        }
+
+        return switch (c.operation()) {
+            case "apply" -> applyForInternship(c.arg(0), c.arg(1));
+            case "confirm" -> confirmOffer(c.arg(0), c.arg(1));
+            case "withdraw" -> requestWithdrawal(c.arg(0), c.arg(1));
+            case "decide" -> {
+                String decision = c.arg(2).toLowerCase(Locale.ROOT);
+                if (!decision.equals("approve") && !decision.equals("reject")) {
+                    yield invalid("decide expects approve or reject, not " + c.arg(2));
+                }
+                yield decideApplication(c.arg(0), c.arg(1), decision.equals("approve"), c.arg(3));
+            }
+            case "visibility" -> {
+                String flag = c.arg(2).toLowerCase(Locale.ROOT);
+                if (!flag.equals("on") && !flag.equals("off")) {
+                    yield invalid("visibility expects on or off, not " + c.arg(2));
+                }
+                yield setVisibility(c.arg(0), c.arg(1), flag.equals("on"));
+            }
+            case "approve-rep" -> approveRepresentative(c.arg(0));
+            case "approve-opportunity" -> approveOpportunity(c.arg(0));
+            case "reject-opportunity" -> rejectOpportunity(c.arg(0));
+            case "approve-withdrawal" -> approveWithdrawal(c.arg(0));
+            default -> rejectWithdrawal(c.arg(0));
+        };
+    }
+
+    /** Totals of a batch run: results by status and the wall time taken. */
+    public static final class BatchResult {
+        private final long[] byStatus = new long[OperationResult.Status.values().length];
+        private long nanos;
+
+        void count(OperationResult<?> result) {
+            byStatus[result.getStatus().ordinal()]++;
+        }
+
+        public long getCount(OperationResult.Status status) {
+            return byStatus[status.ordinal()];
+        }
+
+        public long getTotal() {
+            long total = 0;
+            for (long n : byStatus) total += n;
+            return total;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public Map<OperationResult.Status, Long> getCounts() {
+            Map<OperationResult.Status, Long> counts = new EnumMap<>(OperationResult.Status.class);
+            for (OperationResult.Status s : OperationResult.Status.values()) {
+                if (byStatus[s.ordinal()] > 0) counts.put(s, byStatus[s.ordinal()]);
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * Runs commands in order on the calling thread. Commands usually depend on earlier
+     * ones (apply, then decide, then confirm), so a single batch is not reordered; run
+     * several batches from several threads for concurrent load. onResult (may be null)
+     * sees every command with its result, e.g. to log failures.
+     */
+    public BatchResult runBatch(Iterable<Command> commands,
+                                BiConsumer<Command, OperationResult<?>> onResult) {
+        BatchResult batch = new BatchResult();
+        long start = System.nanoTime();
+        for (Command c : commands) {
+            OperationResult<?> result;
+            try {
+                result = execute(c);
+            } catch (RuntimeException e) {
+                // One bad command must not end a long run
+                result = invalid(c.operation() + " failed: " + e);
+            }
+            batch.count(result);
+            if (onResult != null) onResult.accept(c, result);
+        }
+        batch.nanos = System.nanoTime() - start;
+        return batch;
+    }
+
+    // ========== HELPERS ==========
+
+    /**
+     * An application by ID, or by "studentID/internshipID" (that student's latest
+     * application to that posting), since scripts cannot know generated IDs in advance.
+     */
+    InternshipApplication findApplication(String ref) {
+        if (ref == null) return null;
+        int slash = ref.indexOf('/');
+        if (slash < 0) {
+            return applicationManager.findByID(ref);
+        }
+        Student student = userManager.findStudent(ref.substring(0, slash));
+        InternshipOpportunity opp = opportunityManager.findByID(ref.substring(slash + 1));
+        if (student == null || opp == null) return null;
+        List<InternshipApplication> apps = student.getApplications();
+        for (int i = apps.size() - 1; i >= 0; i--) {
+            if (apps.get(i).getOpportunity() == opp) return apps.get(i);
+        }
+        return null;
+    }
+
+    private static <T> OperationResult<T> notFound(String message) {
+        return OperationResult.fail(OperationResult.Status.NOT_FOUND, message);
+    }
+
+    private static <T> OperationResult<T> invalid(String message) {
+        return OperationResult.fail(OperationResult.Status.INVALID_INPUT, message);
+    }
+
+    private static <T> OperationResult<T> alreadyHandled() {
+        return OperationResult.fail(OperationResult.Status.CONFLICT,
+                "This request was already handled by another staff member.");
+    }
+
+    private static <T> OperationResult<T> noWithdrawalRequest(InternshipApplication app) {
+        return OperationResult.fail(OperationResult.Status.INVALID_STATE,
+                "Application " + app.getApplicationID() + " has no pending withdrawal request.");
+    }
+}
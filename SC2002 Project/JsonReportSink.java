@@ -0,0 +1,123 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Writes a report as one JSON object, streamed as the engine produces it:
+ * {"opportunities":[...], "groups":{"STATUS":[...], ...}, "total":{...}}.
+ */
+public class JsonReportSink implements ReportSink {
+
+    private final BufferedWriter out;
+    private boolean firstRow = true;
+    private ReportEngine.GroupBy currentGroup;
+
+    public JsonReportSink(String filePath) throws IOException {
+        this.out = Files.newBufferedWriter(Path.of(filePath), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void begin() throws IOException {
+        out.write("{\"opportunities\":[");
+    }
+
+    @Override
+    public void row(InternshipOpportunity opp, int[] counts) throws IOException {
+        out.write(firstRow ? "\n  {" : ",\n  {");
+        firstRow = false;
+        field("id", opp.getInternshipID());
+        out.write(',');
+        field("title", opp.getTitle());
+        out.write(',');
+        field("company", opp.getCompanyName());
+        out.write(',');
+        field("major", opp.getPreferredMajor());
+        out.write(',');
+        field("level", opp.getLevel().name());
+        out.write(',');
+        field("status", opp.getStatus().name());
+        out.write(",\"slots\":" + opp.getTotalSlots());
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            out.write(",\"" + status.name().toLowerCase(Locale.ROOT) + "\":" + counts[status.ordinal()]);
+        }
+        out.write('}');
+    }
+
+    @Override
+    public void group(ReportEngine.GroupBy by, String key, ReportEngine.Aggregate agg) throws IOException {
+        if (currentGroup == null) {
+            out.write("\n],\"groups\":{");
+        }
+        if (by != currentGroup) {
+            out.write(currentGroup == null ? "\n \"" : "\n ],\n \"");
+            out.write(by.name());
+            out.write("\":[\n  ");
+            currentGroup = by;
+        } else {
+            out.write(",\n  ");
+        }
+        out.write('{');
+        field("key", key);
+        out.write(',');
+        aggregate(agg);
+        out.write('}');
+    }
+
+    @Override
+    public void total(ReportEngine.Aggregate agg) throws IOException {
+        out.write(currentGroup == null ? "\n],\"groups\":{},\"total\":{" : "\n ]},\n\"total\":{");
+        aggregate(agg);
+        out.write('}');
+    }
+
+    @Override
+    public void end() throws IOException {
+        out.write("}\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void aggregate(ReportEngine.Aggregate agg) throws IOException {
+        out.write("\"opportunities\":" + agg.getOpportunities());
+        out.write(",\"slots\":" + agg.getSlots());
+        out.write(",\"applications\":" + agg.getApplications());
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            out.write(",\"" + status.name().toLowerCase(Locale.ROOT) + "\":" + agg.get(status));
+        }
+        out.write(",\"offerRate\":" + String.format(Locale.ROOT, "%.4f", agg.getOfferRate()));
+        out.write(",\"acceptRate\":" + String.format(Locale.ROOT, "%.4f", agg.getAcceptRate()));
+        out.write(",\"fillRate\":" + String.format(Locale.ROOT, "%.4f", agg.getFillRate()));
+    }
+
+    private void field(String name, String value) throws IOException {
+        out.write('"');
+        out.write(name);
+        out.write("\":");
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"'  -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) out.write(String.format("\\u%04x", (int) c));
+                    else out.write(c);
+                }
+            }
+        }
+        out.write('"');
+    }
+}
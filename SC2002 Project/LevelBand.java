@@ -0,0 +1,16 @@
+/**
+ * Which internship levels a student may apply for, by year of study:
+ * Y1-Y2 only BASIC, Y3 and above any level.
+ */
+public enum LevelBand {
+    JUNIOR,
+    SENIOR;
+
+    public static LevelBand of(int yearOfStudy) {
+        return yearOfStudy <= 2 ? JUNIOR : SENIOR;
+    }
+
+    public boolean admits(InternshipLevel level) {
+        return this == SENIOR || level == InternshipLevel.BASIC;
+    }
+}
@@ -1,5 +1,20 @@
+import java.nio.file.Path;
+
 public class Main {
     public static void main(String[] args) {
+        // --serve [port]: serve the menus to many users over TCP instead of this console
+        if (args.length > 0 && args[0].equals("--serve")) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : SessionServer.DEFAULT_PORT;
+            new SessionServer(port).run();
+            return;
+        }
+
+        // --batch <file>: run scripted operations (see InternshipService.Command) and exit
+        if (args.length > 1 && args[0].equals("--batch")) {
+            new SystemController().runBatch(Path.of(args[1]));
+            return;
+        }
+
         SystemController controller = new SystemController();
         controller.run();
     }
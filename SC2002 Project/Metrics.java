@@ -0,0 +1,101 @@
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide registry of named counters and timers for the hot paths (login,
+ * student listings, applying, withdrawals, reports).
+ *
+ * Instrumented code keeps its Counter / Timer in a static field and times a section as
+ *
+ *     long start = Metrics.start();
+ *     ... work ...
+ *     TIMER.stop(start);
+ *
+ * Run with -Dims.metrics=false to switch all of it off. The flag is a static final
+ * constant, so the JIT removes the disabled calls and nothing is read or written.
+ */
+public final class Metrics {
+
+    private static final boolean ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("ims.metrics", "true"));
+
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /** Monotonic event count. */
+    public static final class Counter {
+        private final LongAdder count = new LongAdder();
+
+        private Counter() {}
+
+        public void increment() {
+            if (ENABLED) count.increment();
+        }
+
+        public long get() {
+            return count.sum();
+        }
+    }
+
+    /** Latency distribution of one operation. */
+    public static final class Timer {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private Timer() {}
+
+        /** Records the time since start, a value from Metrics.start(). */
+        public void stop(long start) {
+            if (ENABLED) histogram.record(System.nanoTime() - start);
+        }
+
+        public LatencyHistogram.Snapshot snapshot() {
+            return histogram.snapshot();
+        }
+    }
+
+    private Metrics() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, k -> new Counter());
+    }
+
+    public static Timer timer(String name) {
+        return timers.computeIfAbsent(name, k -> new Timer());
+    }
+
+    /** Start time for Timer.stop; 0 (and no clock read) when metrics are off. */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    // ========== SNAPSHOT ==========
+
+    /** Every counter and timer, sorted by name. Times are in milliseconds. */
+    public static void printSnapshot(PrintStream out) {
+        if (!ENABLED) {
+            out.println("Metrics are disabled (-Dims.metrics=false).");
+            return;
+        }
+
+        out.printf("%-32s %10s %9s %9s %9s %9s %9s%n",
+                "Timer", "Count", "Mean", "p50", "p99", "p99.9", "Max");
+        for (Map.Entry<String, Timer> e : new TreeMap<>(timers).entrySet()) {
+            LatencyHistogram.Snapshot s = e.getValue().snapshot();
+            out.printf("%-32s %10d %9.3f %9.3f %9.3f %9.3f %9.3f%n", e.getKey(), s.getCount(),
+                    s.getMean() / 1e6, s.getPercentile(0.50) / 1e6, s.getPercentile(0.99) / 1e6,
+                    s.getPercentile(0.999) / 1e6, s.getMax() / 1e6);
+        }
+
+        out.printf("%n%-32s %10s%n", "Counter", "Count");
+        for (Map.Entry<String, Counter> e : new TreeMap<>(counters).entrySet()) {
+            out.printf("%-32s %10d%n", e.getKey(), e.getValue().get());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends a Metrics snapshot to a local file at a fixed interval, from one daemon
+ * thread. Interval in seconds from -Dims.metricsInterval (default 60). Nothing is
+ * started when metrics are disabled.
+ */
+public class MetricsReporter implements AutoCloseable {
+
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path file;
+    private final long intervalSeconds;
+    private final ScheduledExecutorService timer;
+
+    public MetricsReporter(Path file) {
+        this(file, Long.getLong("ims.metricsInterval", 60));
+    }
+
+    public MetricsReporter(Path file, long intervalSeconds) {
+        this.file = file;
+        this.intervalSeconds = Math.max(1, intervalSeconds);
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "metrics-reporter");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public void start() {
+        if (!Metrics.isEnabled()) return;
+        timer.scheduleAtFixedRate(this::dump, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    // Writes straight to the file, never through System.out (which sessions redirect)
+    void dump() {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND), false, StandardCharsets.UTF_8)) {
+                out.println("===== Metrics at " + LocalDateTime.now().format(STAMP) + " =====");
+                Metrics.printSnapshot(out);
+                out.println();
+            }
+        } catch (IOException | RuntimeException e) {
+            // Keep the schedule going: a failed write must not cancel later dumps
+            System.err.println("Metrics dump to " + file + " failed: " + e.getMessage());
+        }
+    }
+
+    /** Stops the schedule and writes one last snapshot. */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        if (Metrics.isEnabled()) dump();
+    }
+}
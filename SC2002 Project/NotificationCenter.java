@@ -0,0 +1,62 @@
+/**
+ * Event subscriber that turns decisions into notifications for the people they
+ * affect: students hear about offers, rejections and withdrawal decisions; company
+ * representatives about their account approval and their postings being approved,
+ * rejected or filled. Runs on its own bus thread; the controllers show a user's
+ * notifications when their menu is next displayed.
+ */
+public class NotificationCenter implements EventBus.Handler {
+
+    private final UserManager userManager;
+
+    public NotificationCenter(UserManager userManager) {
+        this.userManager = userManager;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        if (event instanceof DomainEvent.ApplicationStatusChanged e) {
+            applicationStatusChanged(e.application(), e.oldStatus(), e.newStatus());
+        } else if (event instanceof DomainEvent.OpportunityApproved e) {
+            notifyOwner(e.opportunity(), "Your internship " + describe(e.opportunity())
+                    + " was approved and is now visible to students.");
+        } else if (event instanceof DomainEvent.OpportunityStatusChanged e) {
+            if (e.newStatus() == OpportunityStatus.REJECTED) {
+                notifyOwner(e.opportunity(), "Your internship " + describe(e.opportunity())
+                        + " was rejected by Career Center Staff.");
+            } else if (e.newStatus() == OpportunityStatus.FILLED) {
+                notifyOwner(e.opportunity(), "Your internship " + describe(e.opportunity())
+                        + " is now filled.");
+            }
+        } else if (event instanceof DomainEvent.RepApproved e) {
+            e.rep().addNotification("Your account was approved. You can now create internship opportunities.");
+        }
+    }
+
+    private void applicationStatusChanged(InternshipApplication app, ApplicationStatus oldStatus,
+                                          ApplicationStatus newStatus) {
+        Student student = app.getStudent();
+        String internship = describe(app.getOpportunity());
+        if (oldStatus == ApplicationStatus.WITHDRAW_REQUESTED) {
+            student.addNotification(newStatus == ApplicationStatus.WITHDRAWN
+                    ? "Your withdrawal from " + internship + " was approved."
+                    : "Your withdrawal request for " + internship + " was not approved.");
+        } else if (newStatus == ApplicationStatus.SUCCESSFUL) {
+            student.addNotification("You have an offer for " + internship
+                    + ". Confirm it from your applications.");
+        } else if (newStatus == ApplicationStatus.UNSUCCESSFUL) {
+            student.addNotification("Your application for " + internship + " was not successful.");
+        }
+    }
+
+    private void notifyOwner(InternshipOpportunity opp, String message) {
+        CompanyRepresentative rep = userManager.findRepresentative(opp.getRepID());
+        if (rep != null) {
+            rep.addNotification(message);
+        }
+    }
+
+    private static String describe(InternshipOpportunity opp) {
+        return opp.getTitle() + " (" + opp.getCompanyName() + ")";
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Outcome of one business operation, returned instead of printed so the same
+ * operation can back a console menu, a batch run or a benchmark.
+ *
+ * The message is the sentence the console menus show; value is what the operation
+ * created or changed (e.g. the new application), or null.
+ */
+public final class OperationResult<T> {
+
+    public enum Status {
+        OK,
+        NOT_FOUND,      // unknown user, posting or application
+        NOT_ALLOWED,    // the actor may not do this (wrong owner, not approved, not eligible)
+        INVALID_STATE,  // the target is not in a state this operation applies to
+        CONFLICT,       // another session changed the target first
+        FULL,           // no slot left
+        LIMIT_REACHED,  // e.g. 3 active applications
+        INVALID_INPUT
+    }
+
+    private final Status status;
+    private final String message;
+    private final T value;
+
+    private OperationResult(Status status, String message, T value) {
+        this.status = status;
+        this.message = message;
+        this.value = value;
+    }
+
+    public static <T> OperationResult<T> ok(T value, String message) {
+        return new OperationResult<>(Status.OK, message, value);
+    }
+
+    public static <T> OperationResult<T> fail(Status status, String message) {
+        if (status == Status.OK) {
+            throw new IllegalArgumentException("A failure needs a non-OK status");
+        }
+        return new OperationResult<>(status, message, null);
+    }
+
+    public boolean isOk()       { return status == Status.OK; }
+    public Status getStatus()   { return status; }
+    public String getMessage()  { return message; }
+    public T getValue()         { return value; }
+
+    @Override
+    public String toString() {
+        return status + ": " + message;
+    }
+}
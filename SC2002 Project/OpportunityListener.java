@@ -0,0 +1,19 @@
+/**
+ * Callback for components that need to react when an internship opportunity
+ * changes state (e.g. indexes kept by OpportunityManager, the storage engine).
+ * Listeners registered on OpportunityManager also hear about additions and removals.
+ */
+public interface OpportunityListener {
+    void onStatusChanged(InternshipOpportunity opp, OpportunityStatus oldStatus, OpportunityStatus newStatus);
+
+    default void onVisibilityChanged(InternshipOpportunity opp) {}
+
+    // One of the opportunity's applications moved from oldStatus to newStatus; null means
+    // it was added to (old) or removed from (new) the opportunity. Runs under opp's lock.
+    default void onApplicationStatusChanged(InternshipOpportunity opp, InternshipApplication app,
+                                            ApplicationStatus oldStatus, ApplicationStatus newStatus) {}
+
+    default void onAdded(InternshipOpportunity opp) {}
+
+    default void onRemoved(InternshipOpportunity opp) {}
+}
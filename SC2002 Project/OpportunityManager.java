@@ -1,15 +1,137 @@
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Thread-safe store of internship opportunities.
+ *
+ * The list and every index are lock-free PostingLists keyed by an insertion sequence,
+ * so browsing sessions never block each other. Index moves for one opportunity happen
+ * inside its status listener, which runs under that opportunity's own lock.
+ */
 public class OpportunityManager {
 
-    private final List<InternshipOpportunity> opportunities = new ArrayList<>();
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final Map<InternshipOpportunity, Long> sequenceOf = new ConcurrentHashMap<>();
+    private final PostingList<InternshipOpportunity> opportunities = new PostingList<>();
+
+    // ---- Secondary indexes (kept in sync on add / remove / status change) ----
+    private final Map<String, InternshipOpportunity> byID = new ConcurrentHashMap<>();
+    private final Map<OpportunityStatus, PostingList<InternshipOpportunity>> byStatus =
+            new EnumMap<>(OpportunityStatus.class);
+    private final Map<InternshipLevel, PostingList<InternshipOpportunity>> byLevel =
+            new EnumMap<>(InternshipLevel.class);
+    private final Map<String, PostingList<InternshipOpportunity>> byMajor = new ConcurrentHashMap<>();
+    private final Map<String, PostingList<InternshipOpportunity>> byCompany = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<TitleKey, InternshipOpportunity> byTitle = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<LocalDate, PostingList<InternshipOpportunity>> byClosingDate =
+            new ConcurrentSkipListMap<>();
+    private final EligibilityIndex eligibility = new EligibilityIndex();
+    private final SearchIndex searchIndex = new SearchIndex();
+    private final DashboardMetrics dashboard = new DashboardMetrics();
+    private volatile AutoApprovalRules autoApprovalRules = AutoApprovalRules.OFF;
+
+    // The one date source for eligibility: index updates, expiry and ClosingDateScheduler
+    private final Clock clock;
+
+    // Postings closing before this date have been retired from the eligibility buckets
+    private volatile LocalDate expiredBefore = LocalDate.MIN;
+    private final Object expiryLock = new Object();
+
+    private final List<OpportunityListener> listeners = new CopyOnWriteArrayList<>();
+
+    private static final PostingList<InternshipOpportunity> EMPTY = new PostingList<>();
+
+    // Registered on every stored opportunity: keeps the status index current and
+    // forwards the change to the manager's own listeners
+    private final OpportunityListener entityListener = new OpportunityListener() {
+        @Override
+        public void onStatusChanged(InternshipOpportunity opp, OpportunityStatus oldStatus,
+                                    OpportunityStatus newStatus) {
+            Long seq = sequenceOf.get(opp);
+            if (seq != null) {
+                byStatus.get(oldStatus).remove(seq);
+                byStatus.get(newStatus).add(seq, opp);
+                eligibility.update(opp, TitleKey.of(opp, seq), today());
+                dashboard.statusChanged(opp, oldStatus, newStatus);
+            }
+            for (OpportunityListener l : listeners) {
+                l.onStatusChanged(opp, oldStatus, newStatus);
+            }
+        }
+
+        @Override
+        public void onVisibilityChanged(InternshipOpportunity opp) {
+            Long seq = sequenceOf.get(opp);
+            if (seq != null) {
+                eligibility.update(opp, TitleKey.of(opp, seq), today());
+            }
+            for (OpportunityListener l : listeners) {
+                l.onVisibilityChanged(opp);
+            }
+        }
+
+        @Override
+        public void onApplicationStatusChanged(InternshipOpportunity opp, InternshipApplication app,
+                                               ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+            if (sequenceOf.containsKey(opp)) {
+                dashboard.applicationStatusChanged(opp, oldStatus, newStatus);
+            }
+            for (OpportunityListener l : listeners) {
+                l.onApplicationStatusChanged(opp, app, oldStatus, newStatus);
+            }
+        }
+    };
+
+    public OpportunityManager() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /** clock decides which postings are past their closing date (tests pass a fixed one). */
+    public OpportunityManager(Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+        // Filled once here and only read afterwards, so the EnumMaps need no locking
+        for (OpportunityStatus s : OpportunityStatus.values()) {
+            byStatus.put(s, new PostingList<>());
+        }
+        for (InternshipLevel l : InternshipLevel.values()) {
+            byLevel.put(l, new PostingList<>());
+        }
+    }
 
     // ========== ADD / STORE ==========
 
     public void addOpportunity(InternshipOpportunity opp) {
-        if (opp != null) {
-            opportunities.add(opp);
+        if (opp == null) return;
+        long seq = nextSequence.incrementAndGet();
+        if (sequenceOf.putIfAbsent(opp, seq) != null) return; // already stored
+        // Under the opportunity's lock so no status change slips between indexing and listening
+        synchronized (opp.lock()) {
+            opportunities.add(seq, opp);
+            index(seq, opp);
+            opp.addListener(entityListener);
+        }
+        for (OpportunityListener l : listeners) {
+            l.onAdded(opp);
+        }
+    }
+
+    // Listeners hear about additions, removals and every later change
+    public void addListener(OpportunityListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
         }
     }
 
@@ -17,26 +139,143 @@ public class OpportunityManager {
 
     public boolean removeOpportunity(InternshipOpportunity opp) {
         if (opp == null) return false;
-        return opportunities.remove(opp);
+        // Under the lock, so a status change cannot run with the sequence gone but the indexes not yet updated
+        synchronized (opp.lock()) {
+            Long seq = sequenceOf.remove(opp);
+            if (seq == null) return false;
+            opportunities.remove(seq);
+            opp.removeListener(entityListener);
+            unindex(seq, opp);
+        }
+        for (OpportunityListener l : listeners) {
+            l.onRemoved(opp);
+        }
+        return true;
     }
 
-    
+
     // ========== ACCESS / QUERY ==========
 
+    // Point-in-time copy in insertion order
     public List<InternshipOpportunity> getAllOpportunities() {
-        return opportunities;
+        return opportunities.snapshot();
+    }
+
+    public int size() {
+        return opportunities.size();
+    }
+
+    // Live counters for the staff dashboard, maintained with the indexes
+    public DashboardMetrics getDashboard() {
+        return dashboard;
+    }
+
+    // Rules for approving new postings without staff review; shared by every session
+    public AutoApprovalRules getAutoApprovalRules() {
+        return autoApprovalRules;
+    }
+
+    public void setAutoApprovalRules(AutoApprovalRules rules) {
+        this.autoApprovalRules = Objects.requireNonNull(rules);
     }
 
     public InternshipOpportunity findByID(String id) {
-        if (id == null) return null;
-        for (InternshipOpportunity opp : opportunities) {
-            if (opp.getInternshipID().equalsIgnoreCase(id)) {
-                return opp;
+        String key = normalize(id);
+        if (key == null) return null;
+        return byID.get(key); // null if not found
+    }
+
+    /**
+     * Visible, APPROVED, not yet closed opportunities for this major that a student in
+     * this band may apply for, sorted by title. Served from EligibilityIndex buckets.
+     */
+    public List<InternshipOpportunity> findEligible(String major, LevelBand band, LocalDate today) {
+        expireClosed(today); // no-op unless the day rolled over before ClosingDateScheduler ran
+        return eligibility.eligibleFor(major, band);
+    }
+
+    /** One page of findEligible, further narrowed by filter (null = none). */
+    public Page<InternshipOpportunity> pageEligible(String major, LevelBand band, LocalDate today,
+                                                    Predicate<? super InternshipOpportunity> filter,
+                                                    Page.Cursor after, int size) {
+        expireClosed(today);
+        return eligibility.page(major, band, filter, after, size);
+    }
+
+    /** One page of all opportunities in title order, skipping those filter rejects (null = none). */
+    public Page<InternshipOpportunity> pageByTitle(Predicate<? super InternshipOpportunity> filter,
+                                                   Page.Cursor after, int size) {
+        return Page.of(byTitle, after, size, filter);
+    }
+
+    /** Free-text search over titles and descriptions, best match first (see SearchIndex). */
+    public List<SearchIndex.Hit> search(String query) {
+        return searchIndex.search(query);
+    }
+
+    /** Opportunities closing on or before date, in closing-date order. */
+    public List<InternshipOpportunity> findClosingOnOrBefore(LocalDate date) {
+        return findClosingBetween(null, date);
+    }
+
+    /**
+     * Opportunities whose closing date is within [from, to] (null = unbounded), in
+     * closing-date order. O(log n + k) through the closing-date index.
+     */
+    public List<InternshipOpportunity> findClosingBetween(LocalDate from, LocalDate to) {
+        Map<LocalDate, PostingList<InternshipOpportunity>> range = byClosingDate;
+        if (from != null && to != null) {
+            if (to.isBefore(from)) return List.of();
+            range = byClosingDate.subMap(from, true, to, true);
+        } else if (from != null) {
+            range = byClosingDate.tailMap(from, true);
+        } else if (to != null) {
+            range = byClosingDate.headMap(to, true);
+        }
+
+        List<InternshipOpportunity> result = new ArrayList<>();
+        for (PostingList<InternshipOpportunity> day : range.values()) {
+            result.addAll(day.values());
+        }
+        return result;
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Today by the manager's clock, or the later day postings were already expired up
+     * to, so a posting retired by expireClosed is never re-admitted by an older date.
+     */
+    public LocalDate today() {
+        LocalDate now = LocalDate.now(clock);
+        LocalDate expired = expiredBefore;
+        return expired.isAfter(now) ? expired : now;
+    }
+
+    /**
+     * Retires every opportunity that closed before today from student browsing. Only the
+     * days since the previous call are visited, so this is O(k) in the postings that just
+     * closed and O(1) when already up to date. Returns how many postings were retired.
+     */
+    public int expireClosed(LocalDate today) {
+        if (!today.isAfter(expiredBefore)) return 0;
+        synchronized (expiryLock) {
+            LocalDate from = expiredBefore;
+            if (!today.isAfter(from)) return 0;
+
+            int retired = 0;
+            for (PostingList<InternshipOpportunity> day : byClosingDate.subMap(from, true, today, false).values()) {
+                for (InternshipOpportunity opp : day.values()) {
+                    if (eligibility.expire(opp, today)) retired++;
+                }
             }
+            expiredBefore = today;
+            return retired;
         }
-        return null; // not found
     }
-    
+
    // ========== FILTER ==========
     public List<InternshipOpportunity> filterOpportunities(
             OpportunityStatus statusFilter,
@@ -44,32 +283,134 @@ public class OpportunityManager {
             InternshipLevel levelFilter,
             String companyFilter
     ) {
-        List<InternshipOpportunity> result = new ArrayList<>();
-
-        for (InternshipOpportunity opp : opportunities) {
-            if (opp == null) continue;
+        List<PostingList<InternshipOpportunity>> postings =
+                postingsFor(statusFilter, majorFilter, levelFilter, companyFilter);
+        if (postings.isEmpty()) {
+            return opportunities.snapshot();
+        }
 
-            if (statusFilter != null && opp.getStatus() != statusFilter) {
-                continue;
+        // Walk the smallest list and probe the others
+        PostingList<InternshipOpportunity> smallest = smallest(postings);
+        List<InternshipOpportunity> result = new ArrayList<>(smallest.size());
+        outer:
+        for (Map.Entry<Long, InternshipOpportunity> e : smallest.entries()) {
+            for (PostingList<InternshipOpportunity> p : postings) {
+                if (p != smallest && !p.contains(e.getKey())) {
+                    continue outer;
+                }
             }
+            result.add(e.getValue());
+        }
 
-            if (majorFilter != null && !majorFilter.trim().isEmpty() &&
-                !opp.getPreferredMajor().equalsIgnoreCase(majorFilter.trim())) {
-                continue;
-            }
+        return result;
+    }
 
-            if (levelFilter != null && opp.getLevel() != levelFilter) {
-                continue;
-            }
+    /**
+     * Same matches as filterOpportunities, produced lazily instead of collected into a
+     * list. The stream splits well, so it can be consumed in parallel.
+     */
+    public Stream<InternshipOpportunity> streamOpportunities(
+            OpportunityStatus statusFilter,
+            String majorFilter,
+            InternshipLevel levelFilter,
+            String companyFilter
+    ) {
+        List<PostingList<InternshipOpportunity>> postings =
+                postingsFor(statusFilter, majorFilter, levelFilter, companyFilter);
+        if (postings.isEmpty()) {
+            return opportunities.values().stream();
+        }
+
+        PostingList<InternshipOpportunity> smallest = smallest(postings);
+        return StreamSupport.stream(smallest.entries().spliterator(), false)
+                .filter(e -> {
+                    for (PostingList<InternshipOpportunity> p : postings) {
+                        if (p != smallest && !p.contains(e.getKey())) return false;
+                    }
+                    return true;
+                })
+                .map(Map.Entry::getValue);
+    }
+
+    // The posting list of every active filter
+    private List<PostingList<InternshipOpportunity>> postingsFor(
+            OpportunityStatus statusFilter,
+            String majorFilter,
+            InternshipLevel levelFilter,
+            String companyFilter
+    ) {
+        List<PostingList<InternshipOpportunity>> postings = new ArrayList<>(4);
+        if (statusFilter != null) {
+            postings.add(byStatus.get(statusFilter));
+        }
+        String majorKey = normalize(majorFilter);
+        if (majorKey != null && !majorKey.isEmpty()) {
+            postings.add(byMajor.getOrDefault(majorKey, EMPTY));
+        }
+        if (levelFilter != null) {
+            postings.add(byLevel.get(levelFilter));
+        }
+        String companyKey = normalize(companyFilter);
+        if (companyKey != null && !companyKey.isEmpty()) {
+            postings.add(byCompany.getOrDefault(companyKey, EMPTY));
+        }
+        return postings;
+    }
 
-            if (companyFilter != null && !companyFilter.trim().isEmpty() &&
-                !opp.getCompanyName().equalsIgnoreCase(companyFilter.trim())) {
-                continue;
+    private static PostingList<InternshipOpportunity> smallest(List<PostingList<InternshipOpportunity>> postings) {
+        PostingList<InternshipOpportunity> smallest = postings.get(0);
+        for (PostingList<InternshipOpportunity> p : postings) {
+            if (p.size() < smallest.size()) {
+                smallest = p;
             }
+        }
+        return smallest;
+    }
+
+    // ========== INDEX MAINTENANCE ==========
 
-            result.add(opp);
+    private void index(long seq, InternshipOpportunity opp) {
+        // First opportunity registered under an ID wins, as with the old linear search
+        byID.putIfAbsent(normalize(opp.getInternshipID()), opp);
+        byStatus.get(opp.getStatus()).add(seq, opp);
+        byLevel.get(opp.getLevel()).add(seq, opp);
+        byMajor.computeIfAbsent(normalize(opp.getPreferredMajor()), k -> new PostingList<>()).add(seq, opp);
+        byCompany.computeIfAbsent(normalize(opp.getCompanyName()), k -> new PostingList<>()).add(seq, opp);
+        byClosingDate.computeIfAbsent(opp.getClosingDate(), k -> new PostingList<>()).add(seq, opp);
+        byTitle.put(TitleKey.of(opp, seq), opp);
+        searchIndex.add(opp);
+        eligibility.update(opp, TitleKey.of(opp, seq), today());
+        dashboard.added(opp);
+    }
+
+    private void unindex(long seq, InternshipOpportunity opp) {
+        String idKey = normalize(opp.getInternshipID());
+        if (byID.remove(idKey, opp)) {
+            // Fall back to any remaining opportunity that shares the ID
+            for (InternshipOpportunity other : opportunities.values()) {
+                if (normalize(other.getInternshipID()).equals(idKey)) {
+                    byID.putIfAbsent(idKey, other);
+                    break;
+                }
+            }
         }
+        byStatus.get(opp.getStatus()).remove(seq);
+        byLevel.get(opp.getLevel()).remove(seq);
+        // Empty major/company/closing-date lists are kept: removing them could race with a concurrent add
+        PostingList<InternshipOpportunity> major = byMajor.get(normalize(opp.getPreferredMajor()));
+        if (major != null) major.remove(seq);
+        PostingList<InternshipOpportunity> company = byCompany.get(normalize(opp.getCompanyName()));
+        if (company != null) company.remove(seq);
+        PostingList<InternshipOpportunity> closing = byClosingDate.get(opp.getClosingDate());
+        if (closing != null) closing.remove(seq);
+        byTitle.remove(TitleKey.of(opp, seq));
+        searchIndex.remove(opp);
+        eligibility.remove(opp);
+        dashboard.removed(opp);
+    }
 
-        return result;
-    } 
+    private static String normalize(String value) {
+        if (value == null) return null;
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
 }
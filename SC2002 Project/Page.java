@@ -0,0 +1,79 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.function.Predicate;
+
+/**
+ * One slice of a sorted listing plus the cursor for the next slice.
+ *
+ * Cursors are keyset cursors: they hold the sort key of the last item returned, and
+ * the next page starts strictly after that key. Items added or removed while someone
+ * is paging therefore never shift the remaining pages (no skipped or repeated rows, as
+ * happens with offsets), and fetching a page only walks as far as that page needs.
+ */
+public class Page<T> {
+
+    /** Opaque position in a listing; only valid for the listing that returned it. */
+    public static final class Cursor {
+        private final Object key;
+
+        private Cursor(Object key) {
+            this.key = key;
+        }
+    }
+
+    private final List<T> items;
+    private final Cursor next;
+
+    private Page(List<T> items, Cursor next) {
+        this.items = Collections.unmodifiableList(items);
+        this.next = next;
+    }
+
+    public List<T> getItems()  { return items; }
+    public boolean hasNext()   { return next != null; }
+    public Cursor getNext()    { return next; }
+    public boolean isEmpty()   { return items.isEmpty(); }
+
+    /**
+     * Up to size items of a sorted map, after the cursor's key (from the start if null),
+     * skipping entries the filter rejects. Walks the map lazily.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, T> Page<T> of(NavigableMap<K, T> sorted, Cursor after, int size,
+                             Predicate<? super T> filter) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        NavigableMap<K, T> rest = after == null ? sorted : sorted.tailMap((K) after.key, false);
+
+        List<T> items = new ArrayList<>(size);
+        K lastKey = null;
+        for (Map.Entry<K, T> e : rest.entrySet()) {
+            if (filter != null && !filter.test(e.getValue())) continue;
+            if (items.size() == size) {
+                // One more match exists, so there is a next page
+                return new Page<>(items, new Cursor(lastKey));
+            }
+            items.add(e.getValue());
+            lastKey = e.getKey();
+        }
+        return new Page<>(items, null);
+    }
+
+    /**
+     * Pages over a list the caller computed once (e.g. ranked search hits). The list is
+     * a fixed snapshot, so the cursor is simply the position reached.
+     */
+    static <T> Page<T> of(List<T> snapshot, Cursor after, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        int from = after == null ? 0 : (Integer) after.key;
+        int to = Math.min(snapshot.size(), from + size);
+        List<T> items = new ArrayList<>(snapshot.subList(Math.min(from, to), to));
+        return new Page<>(items, to < snapshot.size() ? new Cursor(to) : null);
+    }
+}
@@ -0,0 +1,67 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe, insertion-ordered set of entities used by the managers' lists and indexes.
+ *
+ * Entries are keyed by a sequence number the owning manager hands out on insert, so
+ * iteration follows insertion order and membership tests are by sequence. Reads and
+ * writes are lock-free; iteration is weakly consistent (never throws, may or may not
+ * see concurrent changes). The size is kept separately so size() is O(1).
+ */
+public class PostingList<T> {
+
+    private final ConcurrentSkipListMap<Long, T> entries = new ConcurrentSkipListMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public void add(long sequence, T item) {
+        if (entries.putIfAbsent(sequence, item) == null) {
+            size.incrementAndGet();
+        }
+    }
+
+    public boolean remove(long sequence) {
+        if (entries.remove(sequence) != null) {
+            size.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    public boolean contains(long sequence) {
+        return entries.containsKey(sequence);
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /** Live, weakly consistent view of (sequence, item) pairs in insertion order. */
+    public Iterable<Map.Entry<Long, T>> entries() {
+        return entries.entrySet();
+    }
+
+    /** Live, weakly consistent view of the items in insertion order. */
+    public Collection<T> values() {
+        return entries.values();
+    }
+
+    /** Up to size items in insertion order after the cursor, skipping those filter rejects. */
+    public Page<T> page(Page.Cursor after, int size, Predicate<? super T> filter) {
+        return Page.of(entries, after, size, filter);
+    }
+
+    /** Point-in-time copy of the items in insertion order. */
+    public List<T> snapshot() {
+        return new ArrayList<>(entries.values());
+    }
+}
@@ -0,0 +1,174 @@
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Single-pass aggregation behind the staff internship reports.
+ *
+ * Each opportunity is read once: its live per-status application counters (no walk
+ * over its applications) are folded into the overall total and into one group per
+ * GroupBy dimension. run() also hands every opportunity to a ReportSink as it goes,
+ * so console, CSV and JSON output is streamed rather than built up in memory.
+ */
+public class ReportEngine {
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    /** Dimensions every report is grouped by, in output order. */
+    public enum GroupBy {
+        STATUS(InternshipOpportunity::getStatus, Comparator.comparing(OpportunityStatus::valueOf)),
+        COMPANY(InternshipOpportunity::getCompanyName, String.CASE_INSENSITIVE_ORDER),
+        MAJOR(InternshipOpportunity::getPreferredMajor, String.CASE_INSENSITIVE_ORDER),
+        LEVEL(InternshipOpportunity::getLevel, Comparator.comparing(InternshipLevel::valueOf));
+
+        // Raw key (an enum constant or a string) while aggregating; its string form once sorted
+        private final Function<InternshipOpportunity, Object> key;
+        private final Comparator<String> order;
+
+        GroupBy(Function<InternshipOpportunity, Object> key, Comparator<String> order) {
+            this.key = key;
+            this.order = order;
+        }
+
+        Object keyOf(InternshipOpportunity opp) {
+            return key.apply(opp);
+        }
+    }
+
+    /** Totals for a set of opportunities: slots plus the application funnel. */
+    public static final class Aggregate {
+        private long opportunities;
+        private long slots;
+        private final long[] applications = new long[STATUSES.length];
+
+        void add(InternshipOpportunity opp, int[] counts) {
+            opportunities++;
+            slots += opp.getTotalSlots();
+            for (int i = 0; i < counts.length; i++) {
+                applications[i] += counts[i];
+            }
+        }
+
+        void merge(Aggregate other) {
+            opportunities += other.opportunities;
+            slots += other.slots;
+            for (int i = 0; i < applications.length; i++) {
+                applications[i] += other.applications[i];
+            }
+        }
+
+        public long getOpportunities() { return opportunities; }
+        public long getSlots()         { return slots; }
+
+        public long getApplications() {
+            long total = 0;
+            for (long n : applications) total += n;
+            return total;
+        }
+
+        public long get(ApplicationStatus status) {
+            return applications[status.ordinal()];
+        }
+
+        /** Applications that got an offer: currently SUCCESSFUL or already CONFIRMED. */
+        public long getOffers() {
+            return get(ApplicationStatus.SUCCESSFUL) + get(ApplicationStatus.CONFIRMED);
+        }
+
+        public double getOfferRate()  { return ratio(getOffers(), getApplications()); }
+        public double getAcceptRate() { return ratio(get(ApplicationStatus.CONFIRMED), getOffers()); }
+        public double getFillRate()   { return ratio(get(ApplicationStatus.CONFIRMED), slots); }
+    }
+
+    /** Overall total plus one Aggregate per key for every GroupBy. */
+    public static final class Result {
+        private final Aggregate total = new Aggregate();
+        private final Map<GroupBy, Map<Object, Aggregate>> groups = new EnumMap<>(GroupBy.class);
+        private final int[] scratch = new int[STATUSES.length];
+
+        Result() {
+            // Hashed while aggregating; sorted once when read
+            for (GroupBy by : GroupBy.values()) {
+                groups.put(by, new HashMap<>());
+            }
+        }
+
+        void add(InternshipOpportunity opp) {
+            add(opp, opp.getApplicationCounts(scratch));
+        }
+
+        void add(InternshipOpportunity opp, int[] counts) {
+            total.add(opp, counts);
+            for (GroupBy by : GroupBy.values()) {
+                groups.get(by).computeIfAbsent(by.keyOf(opp), k -> new Aggregate()).add(opp, counts);
+            }
+        }
+
+        void merge(Result other) {
+            total.merge(other.total);
+            for (GroupBy by : GroupBy.values()) {
+                Map<Object, Aggregate> mine = groups.get(by);
+                other.groups.get(by).forEach((key, agg) ->
+                        mine.computeIfAbsent(key, k -> new Aggregate()).merge(agg));
+            }
+        }
+
+        public Aggregate getTotal() {
+            return total;
+        }
+
+        /** Groups for one dimension, sorted by key. */
+        public Map<String, Aggregate> getGroups(GroupBy by) {
+            // Keys equal under the order (e.g. "Acme" and "ACME") fold into one group
+            Map<String, Aggregate> sorted = new TreeMap<>(by.order);
+            groups.get(by).forEach((key, agg) ->
+                    sorted.computeIfAbsent(String.valueOf(key), k -> new Aggregate()).merge(agg));
+            return sorted;
+        }
+    }
+
+    private ReportEngine() {}
+
+    /**
+     * Aggregates without per-opportunity output. With parallel, the stream is split
+     * across the common pool and the partial results merged.
+     */
+    public static Result aggregate(Stream<InternshipOpportunity> source, boolean parallel) {
+        Stream<InternshipOpportunity> s = parallel ? source.parallel() : source.sequential();
+        return s.collect(Result::new, Result::add, Result::merge);
+    }
+
+    /**
+     * One pass over source: every opportunity goes to sink.row as it is read, then the
+     * groups and the total are written. The sink is not closed.
+     */
+    public static Result run(Stream<InternshipOpportunity> source, ReportSink sink) throws IOException {
+        Result result = new Result();
+        sink.begin();
+        Iterator<InternshipOpportunity> it = source.sequential().iterator();
+        while (it.hasNext()) {
+            InternshipOpportunity opp = it.next();
+            int[] counts = opp.getApplicationCounts(result.scratch); // one consistent read per opportunity
+            sink.row(opp, counts);
+            result.add(opp, counts);
+        }
+        for (GroupBy by : GroupBy.values()) {
+            for (Map.Entry<String, Aggregate> e : result.getGroups(by).entrySet()) {
+                sink.group(by, e.getKey(), e.getValue());
+            }
+        }
+        sink.total(result.getTotal());
+        sink.end();
+        return result;
+    }
+
+    static double ratio(long part, long whole) {
+        return whole == 0 ? 0.0 : (double) part / whole;
+    }
+}
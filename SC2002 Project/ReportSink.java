@@ -0,0 +1,25 @@
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Receives a report from ReportEngine.run as it is computed: every opportunity first
+ * (row), then each group of each GroupBy in order, then the overall total.
+ *
+ * Implementations: ConsoleReportSink, CsvReportSink, JsonReportSink.
+ */
+public interface ReportSink extends Closeable {
+
+    default void begin() throws IOException {}
+
+    /** counts is indexed by ApplicationStatus.ordinal(). */
+    void row(InternshipOpportunity opp, int[] counts) throws IOException;
+
+    void group(ReportEngine.GroupBy by, String key, ReportEngine.Aggregate aggregate) throws IOException;
+
+    void total(ReportEngine.Aggregate aggregate) throws IOException;
+
+    default void end() throws IOException {}
+
+    @Override
+    default void close() throws IOException {}
+}
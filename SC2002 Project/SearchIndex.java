@@ -0,0 +1,155 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Inverted index over opportunity titles and descriptions for free-text search.
+ *
+ * Text is split into lower-case letter/digit tokens. Each query word matches every
+ * indexed term it is a prefix of ("soft" finds "software"), and a posting must match
+ * all query words. Results are ranked by a TF-IDF style score: title hits count more
+ * than description hits, whole-word hits more than prefix hits, and rare terms more
+ * than common ones. Ties are broken by title.
+ *
+ * OpportunityManager adds and removes postings alongside its other indexes; title and
+ * description never change on a stored posting (an edit replaces it).
+ */
+public class SearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double PREFIX_FACTOR = 0.5;
+
+    // term -> (posting -> weighted term frequency); sorted so prefixes are a range scan
+    private final ConcurrentSkipListMap<String, Map<InternshipOpportunity, Integer>> postings =
+            new ConcurrentSkipListMap<>();
+    // posting -> its terms, so it can be removed without re-tokenizing
+    private final Map<InternshipOpportunity, Set<String>> termsOf = new ConcurrentHashMap<>();
+
+    /** One ranked search hit. */
+    public static class Hit {
+        private final InternshipOpportunity opportunity;
+        private final double score;
+
+        Hit(InternshipOpportunity opportunity, double score) {
+            this.opportunity = opportunity;
+            this.score = score;
+        }
+
+        public InternshipOpportunity getOpportunity() { return opportunity; }
+        public double getScore()                      { return score; }
+    }
+
+    // ========== MAINTENANCE (called by OpportunityManager) ==========
+
+    void add(InternshipOpportunity opp) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : tokenize(opp.getTitle())) {
+            weights.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(opp.getDescription())) {
+            weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+        if (termsOf.putIfAbsent(opp, weights.keySet()) != null) return; // already indexed
+
+        for (Map.Entry<String, Integer> e : weights.entrySet()) {
+            // compute (not computeIfAbsent + put) so a concurrent remove cannot drop the term in between
+            postings.compute(e.getKey(), (k, docs) -> {
+                if (docs == null) docs = new ConcurrentHashMap<>();
+                docs.put(opp, e.getValue());
+                return docs;
+            });
+        }
+    }
+
+    void remove(InternshipOpportunity opp) {
+        Set<String> terms = termsOf.remove(opp);
+        if (terms == null) return;
+        for (String term : terms) {
+            // Drop the term once nobody uses it; computeIfPresent makes the check-and-remove atomic
+            postings.computeIfPresent(term, (k, docs) -> {
+                docs.remove(opp);
+                return docs.isEmpty() ? null : docs;
+            });
+        }
+    }
+
+    // ========== QUERY ==========
+
+    /** Postings matching every word of the query, best first. Empty query gives no hits. */
+    public List<Hit> search(String query) {
+        Set<String> words = new LinkedHashSet<>(tokenize(query));
+        if (words.isEmpty()) {
+            return List.of();
+        }
+
+        double total = Math.max(1, termsOf.size());
+        Map<InternshipOpportunity, Double> scores = null;
+
+        for (String word : words) {
+            Map<InternshipOpportunity, Double> wordScores = new HashMap<>();
+            // Every term starting with word: [word, word + MAX_VALUE)
+            for (Map.Entry<String, Map<InternshipOpportunity, Integer>> e :
+                    postings.subMap(word, true, word + Character.MAX_VALUE, false).entrySet()) {
+                Map<InternshipOpportunity, Integer> docs = e.getValue();
+                double idf = Math.log(1 + total / Math.max(1, docs.size()));
+                double factor = e.getKey().length() == word.length() ? 1.0 : PREFIX_FACTOR;
+                for (Map.Entry<InternshipOpportunity, Integer> d : docs.entrySet()) {
+                    wordScores.merge(d.getKey(), d.getValue() * idf * factor, Double::sum);
+                }
+            }
+
+            if (scores == null) {
+                scores = wordScores;
+            } else {
+                // Keep only postings that matched every earlier word too
+                Map<InternshipOpportunity, Double> both = new HashMap<>();
+                for (Map.Entry<InternshipOpportunity, Double> e : scores.entrySet()) {
+                    Double s = wordScores.get(e.getKey());
+                    if (s != null) both.put(e.getKey(), e.getValue() + s);
+                }
+                scores = both;
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(scores.size());
+        for (Map.Entry<InternshipOpportunity, Double> e : scores.entrySet()) {
+            hits.add(new Hit(e.getKey(), e.getValue()));
+        }
+        hits.sort(Comparator.comparingDouble(Hit::getScore).reversed()
+                .thenComparing(h -> h.getOpportunity().getTitle(), String.CASE_INSENSITIVE_ORDER));
+        return hits;
+    }
+
+    public int size() {
+        return termsOf.size();
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,114 @@
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * System.out replacement used by SessionServer.
+ *
+ * The controllers print with System.out, so each session thread binds its connection's
+ * PrintStream here and everything it prints goes to that connection. Threads with no
+ * binding (startup, the server itself) print to the original console.
+ *
+ * Every print method is forwarded directly instead of going through PrintStream's own
+ * shared lock, so one slow client never holds up the output of the others.
+ */
+public class SessionOutput extends PrintStream {
+
+    private static final ThreadLocal<PrintStream> CURRENT = new ThreadLocal<>();
+
+    private final PrintStream console;
+
+    private SessionOutput(PrintStream console) {
+        super(console, true);
+        this.console = console;
+    }
+
+    /** Replaces System.out (once) so sessions can be bound to it. */
+    public static synchronized void install() {
+        if (!(System.out instanceof SessionOutput)) {
+            System.setOut(new SessionOutput(System.out));
+        }
+    }
+
+    public static void bind(PrintStream out) {
+        CURRENT.set(out);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    private PrintStream target() {
+        PrintStream out = CURRENT.get();
+        return out != null ? out : console;
+    }
+
+    // ===================== FORWARDING =====================
+
+    @Override public void flush()                      { target().flush(); }
+    @Override public boolean checkError()              { return target().checkError(); }
+    @Override public void write(int b)                 { target().write(b); }
+    @Override public void write(byte[] buf, int off, int len) { target().write(buf, off, len); }
+
+    @Override public void print(boolean b)             { target().print(b); }
+    @Override public void print(char c)                { target().print(c); }
+    @Override public void print(int i)                 { target().print(i); }
+    @Override public void print(long l)                { target().print(l); }
+    @Override public void print(float f)               { target().print(f); }
+    @Override public void print(double d)              { target().print(d); }
+    @Override public void print(char[] s)              { target().print(s); }
+    @Override public void print(String s)              { target().print(s); }
+    @Override public void print(Object obj)            { target().print(obj); }
+
+    @Override public void println()                    { target().println(); }
+    @Override public void println(boolean x)           { target().println(x); }
+    @Override public void println(char x)              { target().println(x); }
+    @Override public void println(int x)               { target().println(x); }
+    @Override public void println(long x)              { target().println(x); }
+    @Override public void println(float x)             { target().println(x); }
+    @Override public void println(double x)            { target().println(x); }
+    @Override public void println(char[] x)            { target().println(x); }
+    @Override public void println(String x)            { target().println(x); }
+    @Override public void println(Object x)            { target().println(x); }
+
+    @Override
+    public PrintStream printf(String format, Object... args) {
+        target().printf(format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream printf(Locale l, String format, Object... args) {
+        target().printf(l, format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream format(String format, Object... args) {
+        target().format(format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream format(Locale l, String format, Object... args) {
+        target().format(l, format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream append(CharSequence csq) {
+        target().append(csq);
+        return this;
+    }
+
+    @Override
+    public PrintStream append(CharSequence csq, int start, int end) {
+        target().append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public PrintStream append(char c) {
+        target().append(c);
+        return this;
+    }
+}
@@ -0,0 +1,119 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves the console menus to many users at once over TCP (telnet / nc style).
+ *
+ * Data is loaded once into a shared SystemController; every connection gets its own
+ * SystemController (and role controllers) built around that connection's Scanner, with
+ * System.out routed to the connection by SessionOutput.
+ *
+ * Each session runs on its own virtual thread when the runtime has them (Java 21+), so
+ * thousands of mostly idle sessions share a handful of carrier threads. The build targets
+ * Java 17, where sessions run on a fixed pool of -Dims.sessionThreads platform threads
+ * (default 256): at most that many sessions are served at once, and connections beyond
+ * that wait in the pool's queue and are told so.
+ *
+ * The protocol is plain text, passwords included, so the server listens on the loopback
+ * interface only. -Dims.bindAddress=<address> listens elsewhere (with a warning); the
+ * server is not meant to be exposed beyond localhost or a trusted network.
+ */
+public class SessionServer {
+
+    public static final int DEFAULT_PORT = 5000;
+    private static final int PLATFORM_THREADS = Integer.getInteger("ims.sessionThreads", 256);
+    private static final String BIND_ADDRESS = System.getProperty("ims.bindAddress", "127.0.0.1");
+
+    private final int port;
+    private final SystemController shared;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final boolean virtualThreads;
+    private final ExecutorService executor;
+
+    public SessionServer(int port) {
+        SessionOutput.install();
+        this.port = port;
+        this.shared = new SystemController();
+
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    // Looked up reflectively so the build keeps targeting Java 17
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    public void run() {
+        try (ServerSocket server = new ServerSocket(port, 0, InetAddress.getByName(BIND_ADDRESS))) {
+            System.out.println("Session server listening on " + server.getInetAddress().getHostAddress()
+                    + ":" + server.getLocalPort()
+                    + (virtualThreads ? " (virtual threads)" : " (" + PLATFORM_THREADS + " session threads)"));
+            if (!server.getInetAddress().isLoopbackAddress()) {
+                System.out.println("WARNING: not bound to localhost. Logins and passwords are sent "
+                        + "unencrypted; only use this on a trusted network.");
+            }
+
+            while (true) {
+                Socket socket = server.accept();
+                int waiting = activeSessions.incrementAndGet();
+                if (!virtualThreads && waiting > PLATFORM_THREADS) {
+                    notifyQueued(socket);
+                }
+                executor.execute(() -> serve(socket));
+            }
+        } catch (IOException e) {
+            System.out.println("Session server stopped: " + e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void serve(Socket socket) {
+        String client = String.valueOf(socket.getRemoteSocketAddress());
+        try (socket;
+             Scanner in = new Scanner(socket.getInputStream(), StandardCharsets.UTF_8);
+             PrintStream out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+
+            SessionOutput.bind(out);
+            new SystemController(in, shared).run();
+        } catch (NoSuchElementException | IllegalStateException e) {
+            // Client closed the connection mid-menu; nothing to clean up beyond the socket
+        } catch (IOException e) {
+            SessionOutput.unbind();
+            System.out.println("Session " + client + " failed: " + e.getMessage());
+        } finally {
+            SessionOutput.unbind();
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    private static void notifyQueued(Socket socket) {
+        try {
+            PrintStream out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            out.println("All sessions are busy; you will be connected shortly...");
+        } catch (IOException ignored) {
+            // The session itself will notice the broken connection
+        }
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+}
@@ -0,0 +1,167 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Contention stress test for slot reservation.
+ *
+ * Thousands of students holding SUCCESSFUL offers for the same postings confirm at the
+ * same moment. Checks that no posting is overbooked, that each goes FILLED exactly once,
+ * and that a withdrawn confirmation frees its slot for the next rush. Then checks that a
+ * pending withdrawal request keeps its slot: nobody else can confirm into it, and
+ * rejecting the request does not overbook the posting.
+ *
+ *   java -cp target/classes SlotReservationTestMain [students] [threads]
+ */
+public class SlotReservationTestMain {
+
+    private static final InternshipService SERVICE =
+            new InternshipService(new UserManager(), new OpportunityManager(), new ApplicationManager());
+    private static int failures = 0;
+
+    public static void main(String[] args) throws InterruptedException {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int rounds = 20;
+
+        PrintStream console = System.out;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                int slots = 1 + round % 10;
+                runRound(round, slots, studentCount, pool, console);
+            }
+        } finally {
+            System.setOut(console);
+            pool.shutdown();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        System.out.println(failures == 0
+                ? "All " + rounds + " rounds passed (" + studentCount + " students, " + threads + " threads)."
+                : failures + " check(s) FAILED.");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void runRound(int round, int slots, int studentCount, ExecutorService pool,
+                                 PrintStream console) throws InterruptedException {
+        InternshipOpportunity opp = new InternshipOpportunity("STRESS-" + round, "Stress " + round, "",
+                InternshipLevel.BASIC, "Computer Science", "Acme", "rep@acme.com", slots,
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(30));
+        opp.setStatus(OpportunityStatus.APPROVED);
+        opp.setVisible(true);
+
+        AtomicInteger filledFlips = new AtomicInteger();
+        opp.addListener((o, oldStatus, newStatus) -> {
+            if (newStatus == OpportunityStatus.FILLED) filledFlips.incrementAndGet();
+        });
+
+        List<InternshipApplication> offers = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            Student s = new Student(String.format("U%07dX", i), "Student " + i, "Computer Science", 2,
+                    "s" + i + "@e.ntu.edu.sg");
+            InternshipApplication app = new InternshipApplication("R" + round + "-" + i, s, opp,
+                    ApplicationStatus.SUCCESSFUL, LocalDate.now());
+            s.getApplications().add(app);
+            opp.addApplication(app);
+            offers.add(app);
+        }
+
+        // First rush: everyone confirms at once
+        AtomicInteger accepted = rush(offers, pool, console);
+        check(accepted.get() == slots, round, "accepted " + accepted.get() + " confirmations for " + slots + " slots");
+        checkFull(opp, slots, round);
+        check(filledFlips.get() == 1, round, "went FILLED " + filledFlips.get() + " times");
+
+        // Withdraw one confirmed placement: its slot must be released and the posting reopened
+        InternshipApplication confirmed = offers.stream()
+                .filter(a -> a.getStatus() == ApplicationStatus.CONFIRMED).findFirst().orElseThrow();
+        confirmed.setStatus(ApplicationStatus.WITHDRAWN);
+        confirmed.getStudent().setAcceptedPlacement(null);
+        check(opp.getClaimedSlots() == slots - 1, round, "slot not released after withdrawal");
+        check(opp.getStatus() == OpportunityStatus.APPROVED, round, "not reopened after withdrawal: " + opp.getStatus());
+
+        // Second rush from everyone still holding an offer: exactly one more can get in
+        List<InternshipApplication> remaining = new ArrayList<>();
+        for (InternshipApplication app : offers) {
+            if (app.getStatus() == ApplicationStatus.SUCCESSFUL) remaining.add(app);
+        }
+        accepted = rush(remaining, pool, console);
+        check(accepted.get() == 1, round, "accepted " + accepted.get() + " confirmations for the freed slot");
+        checkFull(opp, slots, round);
+        check(filledFlips.get() == 2, round, "went FILLED " + filledFlips.get() + " times after two rushes");
+
+        // A withdrawal request keeps the slot until staff decide on it
+        InternshipApplication leaving = offers.stream()
+                .filter(a -> a.getStatus() == ApplicationStatus.CONFIRMED).findFirst().orElseThrow();
+        InternshipApplication waiting = offers.stream()
+                .filter(a -> a.getStatus() == ApplicationStatus.SUCCESSFUL).findFirst().orElseThrow();
+        check(leaving.getStudent().submitWithdrawalRequest(leaving).isOk(), round, "withdrawal request refused");
+        check(opp.getClaimedSlots() == slots, round, "slot released by a withdrawal request");
+        check(opp.getStatus() == OpportunityStatus.FILLED, round, "reopened by a withdrawal request: " + opp.getStatus());
+        check(!waiting.getStudent().confirmOffer(waiting).isOk(), round, "confirmed into a slot still held by a withdrawal request");
+
+        // Rejected: the placement is back and the posting is still exactly full
+        check(SERVICE.rejectWithdrawal(leaving).isOk(), round, "could not reject the withdrawal");
+        check(leaving.getStatus() == ApplicationStatus.CONFIRMED, round, "rejected withdrawal left " + leaving.getStatus());
+        checkFull(opp, slots, round);
+
+        // Approved: now the slot is free for the student who was turned away
+        check(leaving.getStudent().submitWithdrawalRequest(leaving).isOk(), round, "second withdrawal request refused");
+        check(SERVICE.approveWithdrawal(leaving).isOk(), round, "could not approve the withdrawal");
+        check(opp.getClaimedSlots() == slots - 1, round, "slot not released after approved withdrawal");
+        check(waiting.getStudent().confirmOffer(waiting).isOk(), round, "could not confirm into the released slot");
+        checkFull(opp, slots, round);
+        check(filledFlips.get() == 3, round, "went FILLED " + filledFlips.get() + " times after the withdrawals");
+    }
+
+    private static AtomicInteger rush(List<InternshipApplication> offers, ExecutorService pool,
+                                      PrintStream console) throws InterruptedException {
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(offers.size());
+
+        // confirmApplication prints a line per attempt; keep the console readable
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        for (InternshipApplication app : offers) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    if (app.getStudent().confirmApplication(app)) accepted.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        System.setOut(console);
+        return accepted;
+    }
+
+    private static void checkFull(InternshipOpportunity opp, int slots, int round) {
+        int confirmed = opp.getApplicationCount(ApplicationStatus.CONFIRMED);
+        check(confirmed == slots, round, confirmed + " CONFIRMED for " + slots + " slots");
+        check(opp.getClaimedSlots() == slots, round, "claimed " + opp.getClaimedSlots() + " of " + slots);
+        check(opp.getSlotsAvailable() == 0, round, opp.getSlotsAvailable() + " slots still available");
+        check(opp.getStatus() == OpportunityStatus.FILLED, round, "status is " + opp.getStatus());
+    }
+
+    private static void check(boolean ok, int round, String message) {
+        if (!ok) {
+            failures++;
+            System.out.println("Round " + round + ": " + message);
+        }
+    }
+}
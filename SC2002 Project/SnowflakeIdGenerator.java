@@ -0,0 +1,99 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style generator: 41 bits of milliseconds since EPOCH, 10 bits of node ID
+ * and a 12-bit per-millisecond counter, packed into one long and advanced with CAS.
+ * IDs are strictly increasing per generator, even when the clock stalls or steps back.
+ *
+ * The long is encoded as a fixed-width, 13 character Crockford base-32 string, so
+ * string order matches numeric (and therefore creation) order, e.g. APP-0PX3G8ZR00000.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH = 1735689600000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13; // ceil(64 / 5)
+
+    private final String prefix;
+    private final long node;
+    private final AtomicLong last = new AtomicLong();
+
+    public SnowflakeIdGenerator(String prefix) {
+        this(prefix, Long.getLong("ims.nodeId", 0L));
+    }
+
+    public SnowflakeIdGenerator(String prefix, long node) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE);
+        }
+        this.prefix = prefix == null || prefix.isBlank() ? "" : prefix.trim() + "-";
+        this.node = node;
+    }
+
+    @Override
+    public String nextId() {
+        return prefix + encode(nextLong());
+    }
+
+    public long nextLong() {
+        while (true) {
+            long prev = last.get();
+            long prevTime = prev >>> TIMESTAMP_SHIFT;
+            long now = System.currentTimeMillis() - EPOCH;
+
+            long next;
+            if (now > prevTime) {
+                next = (now << TIMESTAMP_SHIFT) | (node << SEQUENCE_BITS);
+            } else if ((prev & MAX_SEQUENCE) < MAX_SEQUENCE) {
+                next = prev + 1;
+            } else {
+                // Counter exhausted for this millisecond: borrow the next one
+                next = ((prevTime + 1) << TIMESTAMP_SHIFT) | (node << SEQUENCE_BITS);
+            }
+
+            if (last.compareAndSet(prev, next)) {
+                return next;
+            }
+        }
+    }
+
+    public static String encode(long value) {
+        char[] out = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            out[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(out);
+    }
+
+    /** Reverses {@link #encode(long)}; the prefix (if any) is ignored. */
+    public static long decode(String id) {
+        if (id == null || id.length() < ENCODED_LENGTH) {
+            throw new IllegalArgumentException("Not a generated ID: " + id);
+        }
+        long value = 0;
+        for (int i = id.length() - ENCODED_LENGTH; i < id.length(); i++) {
+            int digit = indexOf(id.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Not a generated ID: " + id);
+            }
+            value = (value << 5) | digit;
+        }
+        return value;
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) return i;
+        }
+        return -1;
+    }
+}
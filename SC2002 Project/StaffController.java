@@ -1,17 +1,27 @@
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Scanner;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class StaffController extends UserController {
 
     private static final DateTimeFormatter DATE_FMT =
             DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    private static final Metrics.Timer WITHDRAWAL_LIST_TIMER = Metrics.timer("staff.withdrawals.list");
+    private static final Metrics.Timer REPORT_TIMER = Metrics.timer("staff.report");
+
+    // Requests listed by a bulk withdrawal preview or summary; the rest are counted
+    private static final int BULK_PREVIEW_ROWS = 10;
+
     public StaffController(Scanner scanner,
                        UserManager userManager,
                        OpportunityManager opportunityManager,
@@ -54,11 +64,14 @@ public class StaffController extends UserController {
                 case 2 -> approveOpportunitiesFlow(staff);
                 case 3 -> manageWithdrawalRequests(staff);
                 case 4 -> generateOpportunityReports(staff);
-                case 5 -> changePassword(staff);
-                case 6 -> System.out.println("Logging out...");
+                case 5 -> showDashboard();
+                case 6 -> showMetrics();
+                case 7 -> importExportFlow();
+                case 8 -> changePassword(staff);
+                case 9 -> System.out.println("Logging out...");
                 default -> System.out.println("Invalid choice.");
             }
-        } while (choice != 6);
+        } while (choice != 9);
     }
 
     // --------- ACTIONS ----------
@@ -82,31 +95,35 @@ public class StaffController extends UserController {
         System.out.print("Enter Rep ID to approve: ");
         String id = scanner.nextLine().trim();
 
-        User u = userManager.findUserByID(id);
-        if (u instanceof CompanyRepresentative) {
-            CompanyRepresentative rep = (CompanyRepresentative) u;
-            staff.approveRepresentative(rep);
-        } else {
-            System.out.println("No such representative.");
-        }
+        System.out.println(service.approveRepresentative(id).getMessage());
     }
 
     private void manageWithdrawalRequests(CareerCenterStaff staff) {
         System.out.println("\n===== Withdrawal Requests =====");
-        List<InternshipApplication> allApps = applicationManager.getAllApplications();
-        List<InternshipApplication> pending = new ArrayList<>();
-
-        for (InternshipApplication app : allApps) {
-            if (app.getStatus() == ApplicationStatus.WITHDRAW_REQUESTED) {
-                pending.add(app);
-            }
-        }
+        long listStart = Metrics.start();
+        List<InternshipApplication> pending =
+                applicationManager.getApplicationsByStatus(ApplicationStatus.WITHDRAW_REQUESTED);
+        WITHDRAWAL_LIST_TIMER.stop(listStart);
 
         if (pending.isEmpty()) {
             System.out.println("There are no withdrawal requests at the moment.");
             return;
         }
 
+        System.out.println(pending.size() + " pending withdrawal request(s).");
+        System.out.println("1. Review requests one at a time");
+        System.out.println("2. Bulk decision by rule");
+        System.out.println("3. Back");
+        System.out.print("Enter choice: ");
+        switch (readInt()) {
+            case 1 -> reviewWithdrawalsOneByOne(pending);
+            case 2 -> bulkWithdrawalDecision();
+            case 3 -> { }
+            default -> System.out.println("Invalid choice.");
+        }
+    }
+
+    private void reviewWithdrawalsOneByOne(List<InternshipApplication> pending) {
         while (true) {
             System.out.println("\nWithdrawal Requests:");
             for (int i = 0; i < pending.size(); i++) {
@@ -132,45 +149,23 @@ public class StaffController extends UserController {
             String ans = scanner.nextLine().trim().toLowerCase();
 
             if (!ans.equals("y")) {
-                System.out.println("Withdrawal not approved.");
-
-                // Restore the previous status (e.g. CONFIRMED)
-                ApplicationStatus prev = selected.getPreviousStatus();
-                if (prev != null) {
-                    selected.setStatus(prev);
-                } else if (selected.getStudent().getAcceptedPlacement() == selected) {
-                    // Fallback: if no previousStatus stored but this is the accepted placement,
-                    // assume it should be CONFIRMED
-                    selected.setStatus(ApplicationStatus.CONFIRMED);
-                }
-
-                // Add remark about the rejection
-                String existingRemarks = selected.getRemarks();
-                String extra = "Withdrawal request rejected by Career Center Staff.";
-                if (existingRemarks == null || existingRemarks.isBlank()) {
-                    selected.setRemarks(extra);
-                } else {
-                    selected.setRemarks(existingRemarks + " | " + extra);
+                OperationResult<InternshipApplication> result = service.rejectWithdrawal(selected);
+                System.out.println(result.getMessage());
+                if (result.getStatus() == OperationResult.Status.CONFLICT) {
+                    pending.remove(choice - 1);
                 }
-
                 continue;
             }
 
             // If we reach here, staff approved the withdrawal
-            selected.setStatus(ApplicationStatus.WITHDRAWN);
-            // Clear previous status (no longer needed)
-            selected.setPreviousStatus(null);
-
-            Student st = selected.getStudent();
-            if (st.getAcceptedPlacement() == selected) {
-                st.setAcceptedPlacement(null);
+            OperationResult<InternshipApplication> result = service.approveWithdrawal(selected);
+            System.out.println(result.getMessage());
+            if (!result.isOk()) {
+                pending.remove(choice - 1);
+                if (pending.isEmpty()) return;
+                continue;
             }
 
-            InternshipOpportunity opp = selected.getOpportunity();
-            opp.recalculateSlotsAndStatus();
-
-            System.out.println("Withdrawal approved for application: " + selected.getApplicationID());
-
             pending.remove(choice - 1);
             if (pending.isEmpty()) {
                 System.out.println("No more withdrawal requests.");
@@ -179,6 +174,98 @@ public class StaffController extends UserController {
         }
     }
 
+    // Add/drop week: decide every request a rule selects, after a preview
+    private void bulkWithdrawalDecision() {
+        System.out.println("\n===== Bulk Withdrawal Decision =====");
+        System.out.println("1. All requests for FILLED opportunities");
+        System.out.println("2. All requests older than N days");
+        System.out.println("3. All requests for one company");
+        System.out.println("4. Back");
+        System.out.print("Enter choice: ");
+
+        Predicate<InternshipApplication> rule;
+        switch (readInt()) {
+            case 1 -> rule = InternshipService.forFilledOpportunities();
+            case 2 -> {
+                System.out.print("Older than how many days? ");
+                int days = readInt();
+                if (days < 0) {
+                    System.out.println("Days cannot be negative.");
+                    return;
+                }
+                rule = InternshipService.requestedOnOrBefore(LocalDate.now().minusDays(days));
+            }
+            case 3 -> {
+                System.out.print("Company name: ");
+                String company = scanner.nextLine().trim();
+                if (company.isEmpty()) {
+                    System.out.println("Company name cannot be empty.");
+                    return;
+                }
+                rule = InternshipService.forCompany(company);
+            }
+            case 4 -> { return; }
+            default -> {
+                System.out.println("Invalid choice.");
+                return;
+            }
+        }
+
+        List<InternshipApplication> matched = service.findWithdrawalRequests(rule);
+        if (matched.isEmpty()) {
+            System.out.println("No withdrawal requests match this rule.");
+            return;
+        }
+
+        long postings = matched.stream().map(InternshipApplication::getOpportunity).distinct().count();
+        System.out.println(matched.size() + " request(s) match, across " + postings + " opportunity(ies):");
+        int preview = Math.min(matched.size(), BULK_PREVIEW_ROWS);
+        for (int i = 0; i < preview; i++) {
+            InternshipApplication app = matched.get(i);
+            System.out.printf("  %s | Student: %s | Internship: %s | Requested: %s%n",
+                    app.getApplicationID(),
+                    app.getStudent().getUserID(),
+                    app.getOpportunity().getTitle(),
+                    app.getWithdrawalRequestDate() == null ? "unknown" : app.getWithdrawalRequestDate());
+        }
+        if (matched.size() > preview) {
+            System.out.println("  ... and " + (matched.size() - preview) + " more");
+        }
+
+        System.out.println("1. Approve all");
+        System.out.println("2. Reject all");
+        System.out.println("3. Cancel");
+        System.out.print("Enter choice: ");
+        int action = readInt();
+        if (action != 1 && action != 2) {
+            if (action != 3) System.out.println("Invalid choice.");
+            return;
+        }
+
+        List<InternshipService.Decision> decisions = service.decideWithdrawals(matched, action == 1);
+        List<InternshipService.Decision> skipped = decisions.stream()
+                .filter(d -> !d.result().isOk())
+                .collect(Collectors.toList());
+        long touched = decisions.stream()
+                .filter(d -> d.result().isOk())
+                .map(d -> d.application().getOpportunity())
+                .distinct()
+                .count();
+
+        System.out.println((action == 1 ? "Approved " : "Rejected ") + (decisions.size() - skipped.size())
+                + " withdrawal request(s) across " + touched + " opportunity(ies).");
+        if (!skipped.isEmpty()) {
+            System.out.println("Skipped " + skipped.size() + " already handled by another session:");
+            int limit = Math.min(skipped.size(), BULK_PREVIEW_ROWS);
+            for (int i = 0; i < limit; i++) {
+                System.out.println("  " + skipped.get(i).application().getApplicationID());
+            }
+            if (skipped.size() > limit) {
+                System.out.println("  ... and " + (skipped.size() - limit) + " more");
+            }
+        }
+    }
+
     private LocalDate readDateOrNull(String prompt) {
         while (true) {
             System.out.print(prompt);
@@ -197,9 +284,21 @@ public class StaffController extends UserController {
     // ====== Modern Java: Stream-based filtering for approval screen ======
     private void approveOpportunitiesFlow(CareerCenterStaff staff) {
         System.out.println("\n===== Internship Opportunities =====");
-        List<InternshipOpportunity> all = opportunityManager.getAllOpportunities();
+        System.out.println("Auto-approval: " + opportunityManager.getAutoApprovalRules());
+        System.out.println("1. Review opportunities (approve / reject one, or all that match)");
+        System.out.println("2. Auto-approval rules");
+        System.out.println("3. Back");
+        System.out.print("Enter choice: ");
+        switch (readInt()) {
+            case 1 -> reviewOpportunities();
+            case 2 -> autoApprovalRulesFlow();
+            case 3 -> { }
+            default -> System.out.println("Invalid choice.");
+        }
+    }
 
-        if (all.isEmpty()) {
+    private void reviewOpportunities() {
+        if (opportunityManager.size() == 0) {
             System.out.println("No opportunities in the system.");
             return;
         }
@@ -244,29 +343,46 @@ public class StaffController extends UserController {
         final LocalDate closingBefore = readDateOrNull(
                 "Filter by closing date (latest allowed yyyy-MM-dd, blank for ANY): ");
 
-        // ===== Stream API filtering =====
-        List<InternshipOpportunity> filtered = all.stream()
-                .filter(opp -> opp != null)
-                .filter(opp -> statusFilter == null || opp.getStatus() == statusFilter)
-                .filter(opp -> majorFilter == null ||
-                            opp.getPreferredMajor().equalsIgnoreCase(majorFilter))
-                .filter(opp -> levelFilter == null || opp.getLevel() == levelFilter)
-                .filter(opp -> closingBefore == null ||
-                            !opp.getClosingDate().isAfter(closingBefore))
-                .sorted(Comparator.comparing(InternshipOpportunity::getTitle,
-                                            String.CASE_INSENSITIVE_ORDER))
-                .collect(Collectors.toList());
+        // ===== Filtering, one page at a time in title order =====
+        Predicate<InternshipOpportunity> matches = opp ->
+                (statusFilter == null || opp.getStatus() == statusFilter)
+                && (majorFilter == null || opp.getPreferredMajor().equalsIgnoreCase(majorFilter))
+                && (levelFilter == null || opp.getLevel() == levelFilter);
+
+        List<InternshipOpportunity> filtered;
+        if (closingBefore == null) {
+            filtered = pageThrough(after -> opportunityManager.pageByTitle(matches, after, PAGE_SIZE));
+        } else {
+            // A closing-date filter starts from the closing-date index; that range is sorted once
+            List<InternshipOpportunity> closing = opportunityManager.findClosingOnOrBefore(closingBefore).stream()
+                    .filter(matches)
+                    .sorted(Comparator.comparing(InternshipOpportunity::getTitle,
+                                                String.CASE_INSENSITIVE_ORDER))
+                    .collect(Collectors.toList());
+            filtered = pageThrough(after -> Page.of(closing, after, PAGE_SIZE));
+        }
 
         if (filtered.isEmpty()) {
             System.out.println("No opportunities match the specified filters.");
             return;
         }
 
-        filtered.forEach(System.out::println);
-
-        System.out.print("Enter Internship ID to approve/reject: ");
+        System.out.print("Enter Internship ID to approve/reject, or ALL for every pending match: ");
         String id = scanner.nextLine().trim();
 
+        if (id.equalsIgnoreCase("ALL")) {
+            // Every match, not only the pages shown
+            Stream<InternshipOpportunity> source = closingBefore == null
+                    ? opportunityManager.streamOpportunities(statusFilter, majorFilter, levelFilter, null)
+                    : opportunityManager.findClosingOnOrBefore(closingBefore).stream();
+            decideOpportunityQueue(source
+                    .filter(matches)
+                    .filter(o -> o.getStatus() == OpportunityStatus.PENDING_APPROVAL)
+                    .sorted(Comparator.comparing(InternshipOpportunity::getTitle, String.CASE_INSENSITIVE_ORDER))
+                    .collect(Collectors.toList()));
+            return;
+        }
+
         InternshipOpportunity opp = filtered.stream()
                 .filter(o -> o.getInternshipID().equalsIgnoreCase(id))
                 .findFirst()
@@ -283,16 +399,201 @@ public class StaffController extends UserController {
         int choice = readInt();
 
         if (choice == 1) {
-            staff.approveOpportunity(opp);
-            opp.setVisible(true); // visible to students after approval
+            // Approved postings are made visible to students
+            System.out.println(service.approveOpportunity(opp).getMessage());
         } else if (choice == 2) {
-            staff.rejectOpportunity(opp);
+            System.out.println(service.rejectOpportunity(opp).getMessage());
         } else {
             System.out.println("Invalid choice.");
         }
     }
 
-    // --------- REPORTS (unchanged logic) ----------
+    // Approves or rejects a whole queue of pending postings after one confirmation
+    private void decideOpportunityQueue(List<InternshipOpportunity> queue) {
+        if (queue.isEmpty()) {
+            System.out.println("No pending opportunities match.");
+            return;
+        }
+
+        System.out.println(queue.size() + " pending opportunity(ies) match:");
+        int preview = Math.min(queue.size(), BULK_PREVIEW_ROWS);
+        for (int i = 0; i < preview; i++) {
+            System.out.println("  " + queue.get(i));
+        }
+        if (queue.size() > preview) {
+            System.out.println("  ... and " + (queue.size() - preview) + " more");
+        }
+
+        System.out.println("1. Approve all");
+        System.out.println("2. Reject all");
+        System.out.println("3. Cancel");
+        System.out.print("Enter choice: ");
+        int action = readInt();
+        if (action != 1 && action != 2) {
+            if (action != 3) System.out.println("Invalid choice.");
+            return;
+        }
+
+        List<OperationResult<InternshipOpportunity>> results = service.decideOpportunities(queue, action == 1);
+        List<OperationResult<InternshipOpportunity>> skipped = results.stream()
+                .filter(r -> !r.isOk())
+                .collect(Collectors.toList());
+        System.out.println((action == 1 ? "Approved " : "Rejected ") + (results.size() - skipped.size())
+                + " opportunity(ies).");
+        if (!skipped.isEmpty()) {
+            System.out.println("Skipped " + skipped.size() + ":");
+            int limit = Math.min(skipped.size(), BULK_PREVIEW_ROWS);
+            for (int i = 0; i < limit; i++) {
+                System.out.println("  " + skipped.get(i).getMessage());
+            }
+            if (skipped.size() > limit) {
+                System.out.println("  ... and " + (skipped.size() - limit) + " more");
+            }
+        }
+    }
+
+    // --------- AUTO-APPROVAL RULES ----------
+    private void autoApprovalRulesFlow() {
+        while (true) {
+            AutoApprovalRules current = opportunityManager.getAutoApprovalRules();
+            System.out.println("\n===== Auto-Approval Rules =====");
+            System.out.println("Current rules: " + current);
+            System.out.println("1. Set rules (turns auto-approval on)");
+            System.out.println("2. Turn auto-approval off");
+            System.out.println("3. Approve pending opportunities that match the rules now");
+            System.out.println("4. Back");
+            System.out.print("Enter choice: ");
+
+            switch (readInt()) {
+                case 1 -> {
+                    System.out.print("Only postings from approved company representatives? (y/n): ");
+                    boolean approvedRepOnly = !scanner.nextLine().trim().equalsIgnoreCase("n");
+                    System.out.print("Allowed majors, comma-separated (blank for any): ");
+                    String majors = scanner.nextLine().trim();
+                    System.out.print("Maximum slots (0 for any): ");
+                    int maxSlots = readInt();
+                    saveAutoApprovalRules(new AutoApprovalRules(true, approvedRepOnly,
+                            majors.isEmpty() ? List.of() : List.of(majors.split(",")), maxSlots));
+                }
+                case 2 -> saveAutoApprovalRules(new AutoApprovalRules(false, current.isApprovedRepOnly(),
+                        current.getAllowedMajors(), current.getMaxSlots()));
+                case 3 -> {
+                    if (!current.isEnabled()) {
+                        System.out.println("Auto-approval is off. Set the rules first.");
+                    } else {
+                        decideOpportunityQueue(service.findAutoApprovable());
+                    }
+                }
+                case 4 -> { return; }
+                default -> System.out.println("Invalid choice.");
+            }
+        }
+    }
+
+    // Takes effect at once for every session; saved so it survives a restart
+    private void saveAutoApprovalRules(AutoApprovalRules rules) {
+        opportunityManager.setAutoApprovalRules(rules);
+        System.out.println("Auto-approval: " + rules);
+        Path file = AutoApprovalRules.defaultFile();
+        try {
+            rules.save(file);
+        } catch (IOException e) {
+            System.out.println("Could not save the rules to " + file + ": " + e.getMessage());
+            System.out.println("They apply until the system is restarted.");
+        }
+    }
+
+    // --------- DASHBOARD ----------
+    // Read from live counters: the cost does not grow with the number of postings
+    private void showDashboard() {
+        DashboardMetrics dashboard = opportunityManager.getDashboard();
+        DashboardMetrics.Row total = dashboard.getTotal();
+
+        System.out.println("\n===== Dashboard Summary =====");
+        System.out.println("Opportunities: " + total.getOpportunities() + " (slots: " + total.getSlots() + ")");
+        for (OpportunityStatus status : OpportunityStatus.values()) {
+            System.out.printf("  %-18s: %d%n", status, total.getOpportunities(status));
+        }
+        System.out.println("Applications: " + total.getApplications());
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            System.out.printf("  %-18s: %d%n", status, total.getApplications(status));
+        }
+        System.out.printf("Fill rate: %.1f%%%n", total.getFillRate() * 100);
+
+        printDashboardRows("LEVEL", dashboard.getLevels());
+        printDashboardRows("COMPANY", dashboard.getCompanies());
+        printDashboardRows("MAJOR", dashboard.getMajors());
+    }
+
+    private void printDashboardRows(String heading, List<DashboardMetrics.Row> rows) {
+        System.out.printf("%n%-30s %6s %8s %6s %8s %8s %9s %6s%n",
+                heading, "Opps", "Approved", "Slots", "Applied", "Pending", "Confirmed", "Fill%");
+        for (DashboardMetrics.Row row : rows) {
+            System.out.printf("%-30.30s %6d %8d %6d %8d %8d %9d %5.1f%%%n",
+                    row.getLabel(), row.getOpportunities(), row.getOpportunities(OpportunityStatus.APPROVED),
+                    row.getSlots(), row.getApplications(), row.getApplications(ApplicationStatus.PENDING),
+                    row.getApplications(ApplicationStatus.CONFIRMED), row.getFillRate() * 100);
+        }
+    }
+
+    // --------- PERFORMANCE METRICS ----------
+    private void showMetrics() {
+        System.out.println("\n===== Performance Metrics (times in ms) =====");
+        Metrics.printSnapshot(System.out);
+    }
+
+    // --------- CSV IMPORT / EXPORT ----------
+    private void importExportFlow() {
+        System.out.println("\n===== Import / Export CSV Data =====");
+        System.out.println("1. Import Company Representatives");
+        System.out.println("2. Import Internship Opportunities");
+        System.out.println("3. Import Applications");
+        System.out.println("4. Export Company Representatives");
+        System.out.println("5. Export Internship Opportunities");
+        System.out.println("6. Export Applications");
+        System.out.println("7. Back");
+        System.out.print("Enter choice: ");
+        int choice = readInt();
+        if (choice < 1 || choice > 6) {
+            if (choice != 7) System.out.println("Invalid choice.");
+            return;
+        }
+
+        System.out.print("Enter CSV file path: ");
+        String path = scanner.nextLine().trim();
+        if (path.isEmpty()) {
+            System.out.println("No file given.");
+            return;
+        }
+
+        if (choice <= 3) {
+            if (!Files.isRegularFile(Path.of(path))) {
+                System.out.println("File not found: " + path);
+                return;
+            }
+            ImportReport report = switch (choice) {
+                case 1 -> FileHandler.importCompanyReps(path, userManager);
+                case 2 -> FileHandler.importOpportunities(path, userManager, opportunityManager);
+                default -> FileHandler.importApplications(
+                        path, userManager, opportunityManager, applicationManager);
+            };
+            report.print();
+            return;
+        }
+
+        try {
+            int written = switch (choice) {
+                case 4 -> FileHandler.exportCompanyReps(path, userManager.getAllRepresentatives());
+                case 5 -> FileHandler.exportOpportunities(path, opportunityManager.getAllOpportunities());
+                default -> FileHandler.exportApplications(path, applicationManager.getAllApplications());
+            };
+            System.out.println("Exported " + written + " row(s) to " + path);
+        } catch (IOException e) {
+            System.out.println("Export failed: " + e.getMessage());
+        }
+    }
+
+    // --------- REPORTS ----------
     private void generateOpportunityReports(CareerCenterStaff staff) {
         System.out.println("\n===== Internship Opportunity Reports =====");
         System.out.println("You can leave any field blank to ignore that filter.");
@@ -333,53 +634,71 @@ public class StaffController extends UserController {
             companyFilter = null;
         }
 
-        List<InternshipOpportunity> filtered =
-                opportunityManager.filterOpportunities(statusFilter, majorFilter, levelFilter, companyFilter);
+        System.out.println("Output: 1. Console  2. CSV file  3. JSON file");
+        System.out.print("Enter choice (blank for Console): ");
+        String output = scanner.nextLine().trim();
 
-        System.out.println("\n===== REPORT RESULTS =====");
-        System.out.println("Total matching opportunities: " + filtered.size());
+        Stream<InternshipOpportunity> matching =
+                opportunityManager.streamOpportunities(statusFilter, majorFilter, levelFilter, companyFilter);
 
-        if (filtered.isEmpty()) {
-            System.out.println("No opportunities match the specified filters.");
+        if (output.equals("2") || output.equals("3")) {
+            System.out.print("Enter output file path: ");
+            String path = scanner.nextLine().trim();
+            if (path.isEmpty()) {
+                System.out.println("No file given.");
+                return;
+            }
+            long start = Metrics.start();
+            try (ReportSink sink = output.equals("2") ? new CsvReportSink(path) : new JsonReportSink(path)) {
+                ReportEngine.Result result = ReportEngine.run(matching, sink);
+                REPORT_TIMER.stop(start);
+                System.out.println("Wrote report on " + result.getTotal().getOpportunities()
+                        + " opportunit(ies) to " + path);
+            } catch (IOException e) {
+                System.out.println("Report failed: " + e.getMessage());
+            }
             return;
         }
 
-        int pendingCount = 0, approvedCount = 0, rejectedCount = 0, filledCount = 0;
-
-        for (InternshipOpportunity opp : filtered) {
-            OpportunityStatus st = opp.getStatus();
-            switch (st) {
-                case PENDING_APPROVAL -> pendingCount++;
-                case APPROVED         -> approvedCount++;
-                case REJECTED         -> rejectedCount++;
-                case FILLED           -> filledCount++;
-            }
+        System.out.println("\n===== REPORT RESULTS =====");
+        ReportEngine.Result result;
+        long start = Metrics.start();
+        try {
+            result = ReportEngine.run(matching, new ConsoleReportSink(System.out));
+            REPORT_TIMER.stop(start);
+        } catch (IOException e) {
+            // The console sink does no I/O that can fail
+            throw new IllegalStateException(e);
+        }
 
-            int totalApps = opp.getApplications().size();
-            int confirmed = 0;
-            int successful = 0;
-            int pending = 0;
-            for (InternshipApplication app : opp.getApplications()) {
-                switch (app.getStatus()) {
-                    case CONFIRMED    -> confirmed++;
-                    case SUCCESSFUL   -> successful++;
-                    case PENDING      -> pending++;
-                    default -> { }
-                }
-            }
+        if (result.getTotal().getOpportunities() == 0) {
+            System.out.println("No opportunities match the specified filters.");
+            return;
+        }
 
-            System.out.println("\n" + opp);
-            System.out.println("  Applications: total=" + totalApps +
-                    ", PENDING=" + pending +
-                    ", SUCCESSFUL=" + successful +
-                    ", CONFIRMED=" + confirmed);
+        System.out.print("\nList the matching opportunities? (y/n): ");
+        if (!scanner.nextLine().trim().equalsIgnoreCase("y")) {
+            return;
         }
 
-        System.out.println("\n===== SUMMARY BY STATUS =====");
-        System.out.println("PENDING_APPROVAL: " + pendingCount);
-        System.out.println("APPROVED        : " + approvedCount);
-        System.out.println("REJECTED        : " + rejectedCount);
-        System.out.println("FILLED          : " + filledCount);
+        // Rows are paged from the title index rather than held from the pass above
+        OpportunityStatus status = statusFilter;
+        String major = majorFilter;
+        InternshipLevel level = levelFilter;
+        String company = companyFilter;
+        Predicate<InternshipOpportunity> matches = opp ->
+                (status == null || opp.getStatus() == status)
+                && (major == null || opp.getPreferredMajor().equalsIgnoreCase(major))
+                && (level == null || opp.getLevel() == level)
+                && (company == null || opp.getCompanyName().equalsIgnoreCase(company));
+
+        pageThrough(after -> opportunityManager.pageByTitle(matches, after, PAGE_SIZE), (position, opp) -> {
+            System.out.println("\n" + opp);
+            System.out.println("  Applications: total=" + opp.getApplicationCount() +
+                    ", PENDING=" + opp.getApplicationCount(ApplicationStatus.PENDING) +
+                    ", SUCCESSFUL=" + opp.getApplicationCount(ApplicationStatus.SUCCESSFUL) +
+                    ", CONFIRMED=" + opp.getApplicationCount(ApplicationStatus.CONFIRMED));
+        });
     }
 
 }
\ No newline at end of file
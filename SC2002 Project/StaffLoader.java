@@ -1,26 +1,35 @@
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class StaffLoader {
 
     public static List<CareerCenterStaff> load(String path) {
         List<CareerCenterStaff> staffList = new ArrayList<>();
+        ImportReport report = load(path, staffList::add);
+        if (report.getSkipped() > 0) {
+            report.print();
+        }
+        return staffList;
+    }
 
-        for (String[] row : CsvReader.read(path)) {
-            // CSV columns:
-            // 0 = StaffID
-            // 1 = StaffName
-            // 2 = StaffEmail
-            // 3 = StaffDepartment
+    // Streams each staff member straight to the sink; bad rows are skipped and listed in the report
+    public static ImportReport load(String path, Consumer<CareerCenterStaff> sink) {
+        return CsvReader.stream(path, StaffLoader::fromRow, sink);
+    }
 
-            String id    = row[0].trim();
-            String name  = row[1].trim();
-            String email = row[2].trim();
-            String dept  = row.length > 3 ? row[3].trim() : "Career Center";
+    static CareerCenterStaff fromRow(CsvRow row) {
+        // CSV columns:
+        // 0 = StaffID
+        // 1 = StaffName
+        // 2 = StaffEmail
+        // 3 = StaffDepartment
 
-            staffList.add(new CareerCenterStaff(id, name, email, dept));
-        }
+        String id    = row.get(0);
+        String name  = row.get(1);
+        String email = row.get(2);
+        String dept  = row.fieldCount() > 3 ? row.get(3) : "Career Center";
 
-        return staffList;
+        return new CareerCenterStaff(id, name, email, dept);
     }
 }
@@ -0,0 +1,652 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Durable storage for everything that is created or changed at runtime.
+ *
+ * Every change published on the EventBus is appended to a binary write-ahead log
+ * as a full-state "upsert" record for the affected entity, so replaying a record
+ * twice is harmless. Records are encoded and written on the bus's storage thread,
+ * one write and one fsync per batch of events (group commit); callers never wait
+ * on encoding or disk.
+ * After SNAPSHOT_EVERY records the whole state is written to a snapshot file and
+ * the log is truncated, which keeps replay time bounded.
+ *
+ * Record framing: [int length][int crc32][length bytes payload]. Replay stops at the
+ * first short or corrupt record and cuts the log back to the last good one.
+ */
+public class StorageEngine implements AutoCloseable {
+
+    private static final int SNAPSHOT_MAGIC = 0x494D5331; // "IMS1"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final long SNAPSHOT_EVERY = Long.getLong("ims.snapshotEvery", 50_000L);
+
+    // Record types
+    private static final byte STUDENT = 1;
+    private static final byte STAFF = 2;
+    private static final byte REPRESENTATIVE = 3;
+    private static final byte OPPORTUNITY = 4;
+    private static final byte OPPORTUNITY_REMOVED = 5;
+    private static final byte APPLICATION = 6;
+
+    private final Path walFile;
+    private final Path snapshotFile;
+    private final UserManager userManager;
+    private final OpportunityManager opportunityManager;
+    private final ApplicationManager applicationManager;
+
+    private static final long SYNC_TIMEOUT_NANOS = 10_000_000_000L;
+
+    private final List<byte[]> batch = new ArrayList<>();   // storage thread only
+    private final Object durableLock = new Object();
+    private long durable = -1;      // last event sequence written and fsynced; guarded by durableLock
+    private long sinceSnapshot;     // guarded by this
+
+    private EventBus events;
+    private FileChannel wal;
+    private volatile boolean closed;
+
+    public StorageEngine(Path dataDir, UserManager userManager,
+                         OpportunityManager opportunityManager,
+                         ApplicationManager applicationManager) {
+        this.walFile = dataDir.resolve("ims.wal");
+        this.snapshotFile = dataDir.resolve("ims.snapshot");
+        this.userManager = userManager;
+        this.opportunityManager = opportunityManager;
+        this.applicationManager = applicationManager;
+    }
+
+    // ===================== STARTUP =====================
+
+    /**
+     * Restores the last snapshot plus the log on top of whatever is already loaded
+     * (e.g. CSV rosters), then subscribes to events to log new changes; call before
+     * events.start(). Returns the number of records replayed.
+     */
+    public int open(EventBus events) throws IOException {
+        Files.createDirectories(walFile.getParent());
+
+        int replayed = 0;
+        if (Files.exists(snapshotFile)) {
+            replayed += replaySnapshot();
+        }
+
+        wal = FileChannel.open(walFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        int fromLog = replayLog();
+        replayed += fromLog;
+
+        // Slots are derived from the restored applications
+        for (InternshipOpportunity opp : opportunityManager.getAllOpportunities()) {
+            opp.recalculateSlotsAndStatus();
+        }
+
+        this.events = events;
+        events.subscribe("storage", this::onEvent);
+
+        // Fold a non-empty log into a fresh snapshot so the next start is quick
+        if (fromLog > 0) {
+            checkpoint();
+        }
+        return replayed;
+    }
+
+    private int replaySnapshot() throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Unrecognised snapshot file: " + snapshotFile);
+            }
+            long count = in.readLong();
+            for (long i = 0; i < count; i++) {
+                byte[] payload = readRecord(in);
+                if (payload == null) {
+                    throw new IOException("Snapshot is truncated or corrupt: " + snapshotFile);
+                }
+                apply(payload);
+            }
+            return (int) count;
+        }
+    }
+
+    private int replayLog() throws IOException {
+        int count = 0;
+        long goodBytes = 0;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(walFile)))) {
+            byte[] payload;
+            while ((payload = readRecord(in)) != null) {
+                apply(payload);
+                goodBytes += 8 + payload.length;
+                count++;
+            }
+        }
+        if (goodBytes < wal.size()) {
+            System.out.println("Storage: discarding " + (wal.size() - goodBytes)
+                    + " bytes of incomplete log tail.");
+            wal.truncate(goodBytes);
+        }
+        wal.position(goodBytes);
+        return count;
+    }
+
+    // Returns null on a clean EOF, a torn record or a checksum mismatch
+    private static byte[] readRecord(DataInputStream in) throws IOException {
+        int length;
+        int crc;
+        try {
+            length = in.readInt();
+            crc = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        if (length <= 0 || length > (64 << 20)) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        try {
+            in.readFully(payload);
+        } catch (EOFException e) {
+            return null;
+        }
+        CRC32 check = new CRC32();
+        check.update(payload);
+        return (int) check.getValue() == crc ? payload : null;
+    }
+
+    // ===================== REPLAY =====================
+
+    private void apply(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = in.readByte();
+        switch (type) {
+            case STUDENT -> applyStudent(in);
+            case STAFF -> applyStaff(in);
+            case REPRESENTATIVE -> applyRepresentative(in);
+            case OPPORTUNITY -> applyOpportunity(in);
+            case OPPORTUNITY_REMOVED -> applyOpportunityRemoved(in);
+            case APPLICATION -> applyApplication(in);
+            default -> throw new IOException("Unknown record type " + type);
+        }
+    }
+
+    private void applyStudent(DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String name = in.readUTF();
+        String email = in.readUTF();
+        String major = in.readUTF();
+        int year = in.readInt();
+        String password = in.readUTF();
+        String placementID = in.readUTF();
+
+        Student s = userManager.findStudent(id);
+        if (s == null) {
+            s = new Student(id, name, major, year, email);
+            userManager.addStudent(s);
+        } else {
+            s.setName(name);
+            s.setEmail(email);
+        }
+        s.restorePassword(password);
+
+        if (placementID.isEmpty()) {
+            s.setAcceptedPlacement(null);
+        } else {
+            // May not exist yet during snapshot replay; the application record links it then
+            InternshipApplication app = applicationManager.findByID(placementID);
+            if (app != null) {
+                s.setAcceptedPlacement(app);
+            }
+        }
+    }
+
+    private void applyStaff(DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String name = in.readUTF();
+        String email = in.readUTF();
+        String department = in.readUTF();
+        String password = in.readUTF();
+
+        CareerCenterStaff staff = userManager.findStaff(id);
+        if (staff == null) {
+            staff = new CareerCenterStaff(id, name, email, department);
+            userManager.addStaff(staff);
+        } else {
+            staff.setName(name);
+            staff.setEmail(email);
+            staff.setDepartment(department);
+        }
+        staff.restorePassword(password);
+    }
+
+    private void applyRepresentative(DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String name = in.readUTF();
+        String email = in.readUTF();
+        String company = in.readUTF();
+        String department = in.readUTF();
+        String position = in.readUTF();
+        boolean approved = in.readBoolean();
+        String password = in.readUTF();
+
+        CompanyRepresentative rep = userManager.findRepresentative(id);
+        if (rep == null) {
+            rep = new CompanyRepresentative(id, name, email, company, department, position);
+            userManager.addRepresentative(rep);
+        } else {
+            rep.setName(name);
+            rep.setEmail(email);
+            rep.setCompanyName(company);
+        }
+        rep.setApproved(approved);
+        rep.restorePassword(password);
+    }
+
+    private void applyOpportunity(DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String title = in.readUTF();
+        String description = in.readUTF();
+        InternshipLevel level = InternshipLevel.valueOf(in.readUTF());
+        String major = in.readUTF();
+        String company = in.readUTF();
+        String repID = in.readUTF();
+        int totalSlots = in.readInt();
+        LocalDate opening = LocalDate.ofEpochDay(in.readLong());
+        LocalDate closing = LocalDate.ofEpochDay(in.readLong());
+        OpportunityStatus status = OpportunityStatus.valueOf(in.readUTF());
+        boolean visible = in.readBoolean();
+
+        InternshipOpportunity opp = opportunityManager.findByID(id);
+        if (opp == null) {
+            opp = new InternshipOpportunity(id, title, description, level, major, company,
+                    repID, totalSlots, opening, closing);
+            opp.setStatus(status);
+            opp.setVisible(visible);
+            opportunityManager.addOpportunity(opp);
+
+            CompanyRepresentative rep = userManager.findRepresentative(repID);
+            if (rep != null) {
+                rep.restoreInternship(opp);
+            }
+        } else {
+            opp.setStatus(status);
+            opp.setVisible(visible);
+        }
+    }
+
+    private void applyOpportunityRemoved(DataInputStream in) throws IOException {
+        InternshipOpportunity opp = opportunityManager.findByID(in.readUTF());
+        if (opp == null) return;
+        opportunityManager.removeOpportunity(opp);
+        CompanyRepresentative rep = userManager.findRepresentative(opp.getRepID());
+        if (rep != null) {
+            rep.removeInternship(opp);
+        }
+    }
+
+    private void applyApplication(DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String studentID = in.readUTF();
+        String oppID = in.readUTF();
+        ApplicationStatus status = ApplicationStatus.valueOf(in.readUTF());
+        String previous = in.readUTF();
+        LocalDate dateApplied = LocalDate.ofEpochDay(in.readLong());
+        String remarks = in.readUTF();
+        boolean acceptedPlacement = in.readBoolean();
+        // Optional trailing field; records written before it existed end here
+        LocalDate withdrawalRequested = in.available() > 0 && in.readBoolean()
+                ? LocalDate.ofEpochDay(in.readLong()) : null;
+
+        InternshipApplication app = applicationManager.findByID(id);
+        if (app == null) {
+            Student student = userManager.findStudent(studentID);
+            InternshipOpportunity opp = opportunityManager.findByID(oppID);
+            if (student == null || opp == null) {
+                System.out.println("Storage: skipping application " + id
+                        + " (student or internship no longer exists).");
+                return;
+            }
+            app = new InternshipApplication(id, student, opp, status, dateApplied);
+            // Before adding: a pending withdrawal from CONFIRMED still holds its slot
+            app.setPreviousStatus(previous.isEmpty() ? null : ApplicationStatus.valueOf(previous));
+            student.getApplications().add(app);
+            opp.addApplication(app);
+            applicationManager.addApplication(app);
+        } else {
+            app.setStatus(status);
+            app.setPreviousStatus(previous.isEmpty() ? null : ApplicationStatus.valueOf(previous));
+        }
+        app.setRemarks(remarks);
+        app.setWithdrawalRequestDate(withdrawalRequested);
+        if (acceptedPlacement) {
+            app.getStudent().setAcceptedPlacement(app);
+        }
+    }
+
+    // ===================== LOGGING =====================
+
+    // Storage thread: collect the batch's records, then one write and one fsync at its end
+    private void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        byte[] record = encode(event);
+        if (record != null) {
+            batch.add(frame(record));
+        }
+        if (!endOfBatch) return;
+
+        boolean snapshotDue = false;
+        if (!batch.isEmpty()) {
+            try {
+                synchronized (this) {
+                    if (!closed) {
+                        ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+                        for (int i = 0; i < buffers.length; i++) {
+                            buffers[i] = ByteBuffer.wrap(batch.get(i));
+                        }
+                        while (hasRemaining(buffers)) {
+                            wal.write(buffers);
+                        }
+                        wal.force(false);
+                        sinceSnapshot += batch.size();
+                        snapshotDue = sinceSnapshot >= SNAPSHOT_EVERY;
+                    }
+                }
+            } catch (IOException e) {
+                System.out.println("Storage: write-ahead log write failed: " + e.getMessage());
+            }
+            batch.clear();
+        }
+
+        synchronized (durableLock) {
+            durable = sequence;
+            durableLock.notifyAll();
+        }
+
+        if (snapshotDue) {
+            try {
+                // Not checkpoint(): its sync() would wait for this very thread
+                writeSnapshot();
+            } catch (IOException e) {
+                System.out.println("Storage: snapshot failed, log will keep growing: " + e.getMessage());
+            }
+        }
+    }
+
+    // Full-state record for the entity the event is about; null if the event needs none
+    // (RepApproved and OpportunityApproved arrive with a UserChanged / OpportunityStatusChanged)
+    private static byte[] encode(DomainEvent event) {
+        if (event instanceof DomainEvent.UserChanged e) {
+            return encodeUser(e.user());
+        } else if (event instanceof DomainEvent.OpportunityAdded e) {
+            return encodeOpportunity(e.opportunity());
+        } else if (event instanceof DomainEvent.OpportunityStatusChanged e) {
+            return encodeOpportunity(e.opportunity());
+        } else if (event instanceof DomainEvent.OpportunityVisibilityChanged e) {
+            return encodeOpportunity(e.opportunity());
+        } else if (event instanceof DomainEvent.OpportunityRemoved e) {
+            return encodeOpportunityRemoved(e.opportunity());
+        } else if (event instanceof DomainEvent.ApplicationAdded e) {
+            return encodeApplication(e.application());
+        } else if (event instanceof DomainEvent.ApplicationStatusChanged e) {
+            return encodeApplication(e.application());
+        } else if (event instanceof DomainEvent.ApplicationDetailsChanged e) {
+            return encodeApplication(e.application());
+        }
+        return null;
+    }
+
+    private static byte[] encodeUser(User user) {
+        if (user instanceof Student s) {
+            return encodeStudent(s);
+        } else if (user instanceof CompanyRepresentative rep) {
+            return encodeRepresentative(rep);
+        } else if (user instanceof CareerCenterStaff staff) {
+            return encodeStaff(staff);
+        }
+        return null;
+    }
+
+    private static boolean hasRemaining(ByteBuffer[] buffers) {
+        for (ByteBuffer b : buffers) {
+            if (b.hasRemaining()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Blocks until every event published so far has been written and fsynced.
+     * Gives up after 10 seconds (e.g. if the bus was stopped) and returns false.
+     */
+    public boolean sync() {
+        if (events == null) return true;
+        long target = events.getCursor();
+        long deadline = System.nanoTime() + SYNC_TIMEOUT_NANOS;
+        synchronized (durableLock) {
+            while (durable < target) {
+                long left = deadline - System.nanoTime();
+                if (left <= 0) return false;
+                try {
+                    durableLock.wait(left / 1_000_000 + 1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // ===================== SNAPSHOT =====================
+
+    /** Writes the full state to a new snapshot and empties the log. */
+    public void checkpoint() throws IOException {
+        sync();
+        writeSnapshot();
+    }
+
+    // Events not yet logged are already in memory, so the snapshot holds them too;
+    // logging them again after the truncate is harmless (records are upserts)
+    private void writeSnapshot() throws IOException {
+        // The storage thread writes under the same monitor, so no record lands between the snapshot and the truncate
+        synchronized (this) {
+            if (closed) return;
+            Path tmp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+            try (OutputStream fileOut = Files.newOutputStream(tmp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+                List<byte[]> records = snapshotRecords();
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(records.size());
+                for (byte[] r : records) {
+                    out.write(frame(r));
+                }
+                out.flush();
+            }
+            try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                ch.force(true);
+            }
+            Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+
+            wal.truncate(0);
+            wal.position(0);
+            wal.force(true);
+            sinceSnapshot = 0;
+        }
+    }
+
+    // Dependency order: users, then opportunities, then applications
+    private List<byte[]> snapshotRecords() {
+        List<byte[]> records = new ArrayList<>();
+        for (Student s : userManager.getAllStudents()) {
+            records.add(encodeStudent(s));
+        }
+        for (CareerCenterStaff staff : userManager.getAllStaff()) {
+            records.add(encodeStaff(staff));
+        }
+        for (CompanyRepresentative rep : userManager.getAllRepresentatives()) {
+            records.add(encodeRepresentative(rep));
+        }
+        for (InternshipOpportunity opp : opportunityManager.getAllOpportunities()) {
+            records.add(encodeOpportunity(opp));
+        }
+        for (InternshipApplication app : applicationManager.getAllApplications()) {
+            records.add(encodeApplication(app));
+        }
+        return records;
+    }
+
+    // ===================== SHUTDOWN =====================
+
+    @Override
+    public void close() {
+        if (closed || events == null) return;
+        try {
+            checkpoint();
+        } catch (IOException e) {
+            System.out.println("Storage: final snapshot failed, the log is still intact: " + e.getMessage());
+            sync();
+        }
+        // Later events (the bus may still run) are dropped by onEvent
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            try {
+                wal.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // ===================== ENCODING =====================
+
+    private static byte[] frame(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer buf = ByteBuffer.allocate(8 + payload.length);
+        buf.putInt(payload.length);
+        buf.putInt((int) crc.getValue());
+        buf.put(payload);
+        return buf.array();
+    }
+
+    private static byte[] encodeStudent(Student s) {
+        return encode(out -> {
+            out.writeByte(STUDENT);
+            out.writeUTF(s.getUserID());
+            out.writeUTF(s.getName());
+            out.writeUTF(s.getEmail());
+            out.writeUTF(s.getMajor());
+            out.writeInt(s.getYearOfStudy());
+            out.writeUTF(s.getPassword());
+            InternshipApplication placement = s.getAcceptedPlacement();
+            out.writeUTF(placement == null ? "" : placement.getApplicationID());
+        });
+    }
+
+    private static byte[] encodeStaff(CareerCenterStaff staff) {
+        return encode(out -> {
+            out.writeByte(STAFF);
+            out.writeUTF(staff.getUserID());
+            out.writeUTF(staff.getName());
+            out.writeUTF(staff.getEmail());
+            out.writeUTF(nullToEmpty(staff.getDepartment()));
+            out.writeUTF(staff.getPassword());
+        });
+    }
+
+    private static byte[] encodeRepresentative(CompanyRepresentative rep) {
+        return encode(out -> {
+            out.writeByte(REPRESENTATIVE);
+            out.writeUTF(rep.getUserID());
+            out.writeUTF(rep.getName());
+            out.writeUTF(rep.getEmail());
+            out.writeUTF(nullToEmpty(rep.getCompanyName()));
+            out.writeUTF(nullToEmpty(rep.getDepartment()));
+            out.writeUTF(nullToEmpty(rep.getPosition()));
+            out.writeBoolean(rep.isApproved());
+            out.writeUTF(rep.getPassword());
+        });
+    }
+
+    private static byte[] encodeOpportunity(InternshipOpportunity opp) {
+        return encode(out -> {
+            out.writeByte(OPPORTUNITY);
+            out.writeUTF(opp.getInternshipID());
+            out.writeUTF(opp.getTitle());
+            out.writeUTF(opp.getDescription());
+            out.writeUTF(opp.getLevel().name());
+            out.writeUTF(opp.getPreferredMajor());
+            out.writeUTF(opp.getCompanyName());
+            out.writeUTF(opp.getRepID());
+            out.writeInt(opp.getTotalSlots());
+            out.writeLong(opp.getOpeningDate().toEpochDay());
+            out.writeLong(opp.getClosingDate().toEpochDay());
+            out.writeUTF(opp.getStatus().name());
+            out.writeBoolean(opp.isVisible());
+        });
+    }
+
+    private static byte[] encodeOpportunityRemoved(InternshipOpportunity opp) {
+        return encode(out -> {
+            out.writeByte(OPPORTUNITY_REMOVED);
+            out.writeUTF(opp.getInternshipID());
+        });
+    }
+
+    private static byte[] encodeApplication(InternshipApplication app) {
+        return encode(out -> {
+            out.writeByte(APPLICATION);
+            out.writeUTF(app.getApplicationID());
+            out.writeUTF(app.getStudent().getUserID());
+            out.writeUTF(app.getOpportunity().getInternshipID());
+            out.writeUTF(app.getStatus().name());
+            ApplicationStatus previous = app.getPreviousStatus();
+            out.writeUTF(previous == null ? "" : previous.name());
+            out.writeLong(app.getDateApplied().toEpochDay());
+            out.writeUTF(app.getRemarks());
+            out.writeBoolean(app.getStudent().getAcceptedPlacement() == app);
+            LocalDate withdrawalRequested = app.getWithdrawalRequestDate();
+            out.writeBoolean(withdrawalRequested != null);
+            if (withdrawalRequested != null) {
+                out.writeLong(withdrawalRequested.toEpochDay());
+            }
+        });
+    }
+
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] encode(RecordWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // cannot happen for an in-memory stream
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
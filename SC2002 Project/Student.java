@@ -1,11 +1,18 @@
-import java.util.ArrayList;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Student extends User implements HasMenu {
+    private static final Metrics.Timer APPLY_TIMER = Metrics.timer("student.apply");
+    private static final Metrics.Counter APPLY_ACCEPTED = Metrics.counter("student.apply.accepted");
+    private static final Metrics.Counter APPLY_REJECTED = Metrics.counter("student.apply.rejected");
+
     private final int yearOfStudy;
     private final String major;
-    private final List<InternshipApplication> applications = new ArrayList<>();
-    private InternshipApplication acceptedPlacement;
+    // Copy-on-write: a student only ever has a handful of applications, and other
+    // sessions (staff, reps) read the list while this student's session changes it
+    private final List<InternshipApplication> applications = new CopyOnWriteArrayList<>();
+    private volatile InternshipApplication acceptedPlacement;
 
     // Per-student saved filters
     private final InternshipFilterSettings filterSettings = new InternshipFilterSettings();
@@ -30,61 +37,71 @@ public class Student extends User implements HasMenu {
         System.out.println("3. View Application Status");
         System.out.println("4. Request Withdrawal of Application");
         System.out.println("5. Confirm Internship Offer");
-        System.out.println("6. Change Password");
-        System.out.println("7. Logout");
-    }
-
-    /**
-     * Just displays the list given by the controller.
-     * Filtering is done in StudentController to avoid duplication.
-     */
-    public void viewInternshipOpportunities(List<InternshipOpportunity> visible) {
-        System.out.println("\n===== Internships for " + getName() + " (" + major + ", Y" + yearOfStudy + ") =====");
-        if (visible == null || visible.isEmpty()) {
-            System.out.println("No internship opportunities match your profile and filters right now.");
-            return;
-        }
-        // toString() of InternshipOpportunity already prints Closing Date
-        visible.forEach(System.out::println);
+        System.out.println("6. Search Internship Opportunities");
+        System.out.println("7. Change Password");
+        System.out.println("8. Logout");
     }
 
     public boolean applyForInternship(InternshipOpportunity opportunity) {
+        return apply(opportunity) != null;
+    }
+
+    // Returns the new application, or null if the student cannot apply (reason is printed).
+    public InternshipApplication apply(InternshipOpportunity opportunity) {
+        OperationResult<InternshipApplication> result = submitApplication(opportunity);
+        System.out.println(result.getMessage());
+        return result.getValue();
+    }
+
+    // Headless form of apply: the outcome is returned, nothing is printed.
+    // Synchronized: the limit / duplicate checks and the add happen as one step, so two
+    // sessions of the same student cannot both get under the 3-application limit.
+    public synchronized OperationResult<InternshipApplication> submitApplication(InternshipOpportunity opportunity) {
+        long start = Metrics.start();
+        OperationResult<InternshipApplication> result = tryApply(opportunity);
+        APPLY_TIMER.stop(start);
+        (result.isOk() ? APPLY_ACCEPTED : APPLY_REJECTED).increment();
+        return result;
+    }
+
+    private OperationResult<InternshipApplication> tryApply(InternshipOpportunity opportunity) {
         if (opportunity == null) {
-            System.out.println("Invalid internship.");
-            return false;
-        }
-        if (!opportunity.isVisible() || opportunity.getStatus() != OpportunityStatus.APPROVED) {
-            System.out.println("This internship is not open for applications.");
-            return false;
+            return OperationResult.fail(OperationResult.Status.NOT_FOUND, "Invalid internship.");
         }
         if (!opportunity.getPreferredMajor().equalsIgnoreCase(major)) {
-            System.out.println("Your major does not match the preferred major.");
-            return false;
+            return OperationResult.fail(OperationResult.Status.NOT_ALLOWED,
+                    "Your major does not match the preferred major.");
         }
         if (!canApplyForLevel(opportunity.getLevel())) {
-            System.out.println("You are not eligible to apply for this internship level.");
-            return false;
+            return OperationResult.fail(OperationResult.Status.NOT_ALLOWED,
+                    "You are not eligible to apply for this internship level.");
         }
 
         if (hasReachedApplicationLimit()) {
-            System.out.println("You already have 3 active applications (PENDING or SUCCESSFUL).");
-            return false;
+            return OperationResult.fail(OperationResult.Status.LIMIT_REACHED,
+                    "You already have 3 active applications (PENDING or SUCCESSFUL).");
         }
 
         // prevent duplicate
         for (InternshipApplication app : applications) {
             if (app.getOpportunity() == opportunity &&
                 app.getStatus() != ApplicationStatus.WITHDRAWN) {
-                System.out.println("You have already applied for this internship.");
-                return false;
+                return OperationResult.fail(OperationResult.Status.INVALID_STATE,
+                        "You have already applied for this internship.");
             }
         }
 
         InternshipApplication newApp = new InternshipApplication(this, opportunity);
-        applications.add(newApp);
-        opportunity.addApplication(newApp);
-        System.out.println("Applied successfully for: " + opportunity.getTitle());
-        return true;
+        // Checked under the opportunity's lock so it cannot be filled or hidden in between
+        synchronized (opportunity.lock()) {
+            if (!opportunity.isVisible() || opportunity.getStatus() != OpportunityStatus.APPROVED) {
+                return OperationResult.fail(OperationResult.Status.INVALID_STATE,
+                        "This internship is not open for applications.");
+            }
+            applications.add(newApp);
+            opportunity.addApplication(newApp);
+        }
+        return OperationResult.ok(newApp, "Applied successfully for: " + opportunity.getTitle());
     }
 
     public void viewApplicationStatus() {
@@ -123,17 +140,33 @@ public class Student extends User implements HasMenu {
     }
 
     public boolean confirmApplication(InternshipApplication app) {
+        OperationResult<InternshipApplication> result = confirmOffer(app);
+        System.out.println(result.getMessage());
+        return result.isOk();
+    }
+
+    // Headless form of confirmApplication
+    public synchronized OperationResult<InternshipApplication> confirmOffer(InternshipApplication app) {
         if (app == null || app.getStudent() != this) {
-            System.out.println("Invalid application.");
-            return false;
+            return OperationResult.fail(OperationResult.Status.NOT_FOUND, "Invalid application.");
         }
 
         if (app.getStatus() != ApplicationStatus.SUCCESSFUL) {
-            System.out.println("You can only confirm applications that have been approved by the company.");
-            return false;
+            return OperationResult.fail(OperationResult.Status.INVALID_STATE,
+                    "You can only confirm applications that have been approved by the company.");
         }
 
-        app.setStatus(ApplicationStatus.CONFIRMED);
+        InternshipOpportunity opp = app.getOpportunity();
+        // Claim a slot first: once the posting is full, confirmations are turned away here
+        if (!opp.tryReserveSlot(app)) {
+            return OperationResult.fail(OperationResult.Status.FULL,
+                    "Sorry, all slots for this internship have been taken.");
+        }
+        if (!app.compareAndSetStatus(ApplicationStatus.SUCCESSFUL, ApplicationStatus.CONFIRMED)) {
+            opp.releaseSlot(app);
+            return OperationResult.fail(OperationResult.Status.CONFLICT,
+                    "This application was updated in the meantime. Please check its status again.");
+        }
         setAcceptedPlacement(app);
 
         for (InternshipApplication other : applications) {
@@ -146,33 +179,40 @@ public class Student extends User implements HasMenu {
             }
         }
 
-        InternshipOpportunity opp = app.getOpportunity();
         opp.recalculateSlotsAndStatus();
 
-        System.out.println("You have confirmed the internship: " +
+        return OperationResult.ok(app, "You have confirmed the internship: " +
                 app.getOpportunity().getTitle() +
                 ". All your other active applications have been withdrawn.");
-        return true;
     }
 
     public boolean requestWithdrawal(InternshipApplication app) {
+        OperationResult<InternshipApplication> result = submitWithdrawalRequest(app);
+        System.out.println(result.getMessage());
+        return result.isOk();
+    }
+
+    // Headless form of requestWithdrawal
+    public synchronized OperationResult<InternshipApplication> submitWithdrawalRequest(InternshipApplication app) {
         if (app == null || app.getStudent() != this) {
-            System.out.println("Invalid application.");
-            return false;
+            return OperationResult.fail(OperationResult.Status.NOT_FOUND, "Invalid application.");
         }
 
-        ApplicationStatus st = app.getStatus();
-        if (st == ApplicationStatus.WITHDRAWN || st == ApplicationStatus.WITHDRAW_REQUESTED) {
-            System.out.println("This application is already withdrawn or has a pending withdrawal request.");
-            return false;
-        }
+        // Under the opportunity's lock so a company decision cannot land between the check and the update
+        synchronized (app.getOpportunity().lock()) {
+            ApplicationStatus st = app.getStatus();
+            if (st == ApplicationStatus.WITHDRAWN || st == ApplicationStatus.WITHDRAW_REQUESTED) {
+                return OperationResult.fail(OperationResult.Status.INVALID_STATE,
+                        "This application is already withdrawn or has a pending withdrawal request.");
+            }
 
-        // Remember what the status was before requesting withdrawal
-        app.setPreviousStatus(st);
+            // Remember what the status was before requesting withdrawal, and when it was asked for
+            app.setPreviousStatus(st);
+            app.setWithdrawalRequestDate(LocalDate.now());
 
-        app.setStatus(ApplicationStatus.WITHDRAW_REQUESTED);
-        System.out.println("Withdrawal request submitted for application: " + app.getApplicationID());
-        return true;
+            app.setStatus(ApplicationStatus.WITHDRAW_REQUESTED);
+        }
+        return OperationResult.ok(app, "Withdrawal request submitted for application: " + app.getApplicationID());
     }
 
     private boolean hasReachedApplicationLimit() {
@@ -188,10 +228,11 @@ public class Student extends User implements HasMenu {
     }
 
     boolean canApplyForLevel(InternshipLevel level) {
-        if (yearOfStudy <= 2) {
-            return level == InternshipLevel.BASIC;
-        }
-        return true; // Y3 and above can apply for any level
+        return getLevelBand().admits(level); // Y1-Y2 only BASIC, Y3 and above any level
+    }
+
+    LevelBand getLevelBand() {
+        return LevelBand.of(yearOfStudy);
     }
 
     public int getYearOfStudy() { return yearOfStudy; }
@@ -206,7 +247,9 @@ public class Student extends User implements HasMenu {
     }
 
     public void setAcceptedPlacement(InternshipApplication app) {
+        if (this.acceptedPlacement == app) return;
         this.acceptedPlacement = app;
+        fireChanged();
     }
 
     public InternshipFilterSettings getFilterSettings() {
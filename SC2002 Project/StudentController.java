@@ -1,17 +1,21 @@
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.stream.Collectors;
 
 public class StudentController extends UserController {
 
     private static final DateTimeFormatter DATE_FMT =
             DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    private static final Metrics.Timer ELIGIBLE_TIMER = Metrics.timer("student.eligible");
+    private static final Metrics.Timer ELIGIBLE_PAGE_TIMER = Metrics.timer("student.eligible.page");
+
     public StudentController(Scanner scanner,
                          UserManager userManager,
                          OpportunityManager opportunityManager,
@@ -45,6 +49,7 @@ public class StudentController extends UserController {
     private void handleStudentMenu(Student s) {
         int choice;
         do {
+            showNotifications(s);
             s.displayMenu();
             System.out.print("Enter choice: ");
             choice = readInt();
@@ -56,8 +61,7 @@ public class StudentController extends UserController {
                     if (ans.equals("y")) {
                         configureStudentFilters(s);
                     }
-                    List<InternshipOpportunity> visible = findEligibleInternshipsForStudent(s);
-                    s.viewInternshipOpportunities(visible);
+                    browseInternships(s);
                 }
                 case 2 -> {
                     System.out.print("Do you want to adjust your filters first? (y/n): ");
@@ -70,11 +74,12 @@ public class StudentController extends UserController {
                 case 3 -> s.viewApplicationStatus();
                 case 4 -> studentRequestWithdrawal(s);
                 case 5 -> studentConfirmApplication(s);
-                case 6 -> changePassword(s);
-                case 7 -> System.out.println("Logging out...");
+                case 6 -> studentSearchInternships(s);
+                case 7 -> changePassword(s);
+                case 8 -> System.out.println("Logging out...");
                 default -> System.out.println("Invalid choice.");
             }
-        } while (choice != 7);
+        } while (choice != 8);
     }
 
     // --------- FILTER CONFIG ----------
@@ -139,65 +144,112 @@ public class StudentController extends UserController {
         }
     }
 
-    // --------- SHARED STREAM FILTER ----------
-    private List<InternshipOpportunity> findEligibleInternshipsForStudent(Student s) {
-        List<InternshipOpportunity> all = opportunityManager.getAllOpportunities();
-        if (all.isEmpty()) {
-            return List.of();
+    // --------- ELIGIBLE OPPORTUNITIES ----------
+    // Package-private so the benchmarks can call it directly
+    List<InternshipOpportunity> findEligibleInternshipsForStudent(Student s) {
+        long start = Metrics.start();
+        // Visible, APPROVED, still open, student's major and level band, already sorted by title
+        List<InternshipOpportunity> bucket =
+                opportunityManager.findEligible(s.getMajor(), s.getLevelBand(), opportunityManager.today());
+        if (bucket.isEmpty()) {
+            ELIGIBLE_TIMER.stop(start);
+            return bucket;
         }
 
-        LocalDate today = LocalDate.now();
-        InternshipFilterSettings fs = s.getFilterSettings();
+        // Saved filters only need to look at that small bucket
+        Predicate<InternshipOpportunity> filters = savedFilters(s.getFilterSettings());
+        List<InternshipOpportunity> result = new ArrayList<>(bucket.size());
+        for (InternshipOpportunity opp : bucket) {
+            if (filters.test(opp)) {
+                result.add(opp);
+            }
+        }
+        ELIGIBLE_TIMER.stop(start);
+        return result;
+    }
+
+    // Same listing as findEligibleInternshipsForStudent, one page at a time
+    private Page<InternshipOpportunity> eligiblePage(Student s, Page.Cursor after) {
+        long start = Metrics.start();
+        Page<InternshipOpportunity> page = opportunityManager.pageEligible(s.getMajor(), s.getLevelBand(),
+                opportunityManager.today(), savedFilters(s.getFilterSettings()), after, PAGE_SIZE);
+        ELIGIBLE_PAGE_TIMER.stop(start);
+        return page;
+    }
+
+    private static Predicate<InternshipOpportunity> savedFilters(InternshipFilterSettings fs) {
+        OpportunityStatus statusFilter = fs.getStatusFilter();
+        String majorFilter = fs.getPreferredMajorFilter();
+        InternshipLevel levelFilter = fs.getLevelFilter();
+        LocalDate closingBefore = fs.getClosingDateBeforeFilter();
 
-        return all.stream()
-                .filter(opp -> opp != null)
-                .filter(InternshipOpportunity::isVisible)
-                .filter(opp -> opp.getStatus() == OpportunityStatus.APPROVED)
-                // requirement: cannot apply AFTER closing date
-                .filter(opp -> !today.isAfter(opp.getClosingDate()))
-                // basic eligibility
-                .filter(opp -> opp.getPreferredMajor().equalsIgnoreCase(s.getMajor()))
-                .filter(opp -> s.canApplyForLevel(opp.getLevel()))
-                // apply saved filters
-                .filter(opp -> {
-                    OpportunityStatus f = fs.getStatusFilter();
-                    return f == null || opp.getStatus() == f;
-                })
-                .filter(opp -> {
-                    String m = fs.getPreferredMajorFilter();
-                    return m == null || opp.getPreferredMajor().equalsIgnoreCase(m);
-                })
-                .filter(opp -> {
-                    InternshipLevel lvl = fs.getLevelFilter();
-                    return lvl == null || opp.getLevel() == lvl;
-                })
-                .filter(opp -> {
-                    LocalDate cb = fs.getClosingDateBeforeFilter();
-                    return cb == null || !opp.getClosingDate().isAfter(cb);
-                })
-                .sorted(Comparator.comparing(InternshipOpportunity::getTitle,
-                                             String.CASE_INSENSITIVE_ORDER))
-                .collect(Collectors.toList());
+        return opp -> (statusFilter == null || opp.getStatus() == statusFilter)
+                && (majorFilter == null || opp.getPreferredMajor().equalsIgnoreCase(majorFilter))
+                && (levelFilter == null || opp.getLevel() == levelFilter)
+                && (closingBefore == null || !opp.getClosingDate().isAfter(closingBefore));
     }
 
     // --------- ACTIONS ----------
+    private void browseInternships(Student s) {
+        System.out.println("\n===== Internships for " + s.getName() + " (" + s.getMajor()
+                + ", Y" + s.getYearOfStudy() + ") =====");
+        List<InternshipOpportunity> shown = pageThrough(after -> eligiblePage(s, after));
+        if (shown.isEmpty()) {
+            System.out.println("No internship opportunities match your profile and filters right now.");
+        }
+    }
+
     private void studentApplyForInternship(Student s) {
         System.out.println("\n===== Available Internship Opportunities =====");
 
-        List<InternshipOpportunity> eligible = findEligibleInternshipsForStudent(s);
+        // toString already includes closing date
+        List<InternshipOpportunity> eligible = pageThrough(after -> eligiblePage(s, after));
 
         if (eligible.isEmpty()) {
             System.out.println("No internship opportunities available that match your profile and filters.");
             return;
         }
 
-        // Just print once; toString already includes closing date
-        eligible.forEach(System.out::println);
-
         System.out.print("\nEnter Internship ID to apply: ");
         String id = scanner.nextLine().trim();
+        applyFromList(s, eligible, id);
+    }
 
-        InternshipOpportunity selected = eligible.stream()
+    private void studentSearchInternships(Student s) {
+        System.out.print("\nSearch titles and descriptions (e.g. data analyst): ");
+        String query = scanner.nextLine().trim();
+        if (query.isEmpty()) {
+            System.out.println("Search cancelled.");
+            return;
+        }
+
+        // Ranked hits, narrowed to what the student can apply for under their current filters
+        Set<InternshipOpportunity> eligible = new HashSet<>(findEligibleInternshipsForStudent(s));
+        List<InternshipOpportunity> results = new ArrayList<>();
+        for (SearchIndex.Hit hit : opportunityManager.search(query)) {
+            if (eligible.contains(hit.getOpportunity())) {
+                results.add(hit.getOpportunity());
+            }
+        }
+
+        if (results.isEmpty()) {
+            System.out.println("No internship opportunities available for you match \"" + query + "\".");
+            return;
+        }
+
+        System.out.println("\n===== Results for \"" + query + "\" (best match first) =====");
+        List<InternshipOpportunity> shown = pageThrough(after -> Page.of(results, after, PAGE_SIZE));
+
+        System.out.print("\nEnter Internship ID to apply (blank to go back): ");
+        String id = scanner.nextLine().trim();
+        if (!id.isEmpty()) {
+            applyFromList(s, shown, id);
+        }
+    }
+
+    // Applies to the opportunity with this ID, if it is one of those just shown to the student
+    private void applyFromList(Student s, List<InternshipOpportunity> shown, String id) {
+        InternshipOpportunity selected = shown.stream()
                 .filter(opp -> opp.getInternshipID().equalsIgnoreCase(id))
                 .findFirst()
                 .orElse(null);
@@ -207,14 +259,7 @@ public class StudentController extends UserController {
             return;
         }
 
-        boolean success = s.applyForInternship(selected);
-        if (success) {
-            List<InternshipApplication> apps = s.getApplications();
-            if (!apps.isEmpty()) {
-                InternshipApplication latest = apps.get(apps.size() - 1);
-                applicationManager.addApplication(latest);
-            }
-        }
+        System.out.println(service.applyForInternship(s, selected).getMessage());
     }
 
     private void studentRequestWithdrawal(Student s) {
@@ -257,7 +302,7 @@ public class StudentController extends UserController {
         }
 
         InternshipApplication selected = eligible.get(choice - 1);
-        s.requestWithdrawal(selected);
+        System.out.println(service.requestWithdrawal(s, selected).getMessage());
     }
 
     private void studentConfirmApplication(Student s) {
@@ -297,7 +342,7 @@ public class StudentController extends UserController {
         }
 
         InternshipApplication selected = eligible.get(choice - 1);
-        s.confirmApplication(selected);
+        System.out.println(service.confirmOffer(s, selected).getMessage());
     }
 
 }
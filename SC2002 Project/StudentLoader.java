@@ -1,28 +1,37 @@
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class StudentLoader {
 
     public static List<Student> load(String path) {
         List<Student> students = new ArrayList<>();
+        ImportReport report = load(path, students::add);
+        if (report.getSkipped() > 0) {
+            report.print();
+        }
+        return students;
+    }
 
-        for (String[] row : CsvReader.read(path)) {
-            // CSV columns:
-            // 0 = StudentID
-            // 1 = StudentName
-            // 2 = Major
-            // 3 = Year
-            // 4 = Email
+    // Streams each student straight to the sink; bad rows are skipped and listed in the report
+    public static ImportReport load(String path, Consumer<Student> sink) {
+        return CsvReader.stream(path, StudentLoader::fromRow, sink);
+    }
 
-            String id    = row[0].trim();
-            String name  = row[1].trim();
-            String major = row[2].trim();
-            int year     = Integer.parseInt(row[3].trim());
-            String email = row[4].trim();
+    static Student fromRow(CsvRow row) {
+        // CSV columns:
+        // 0 = StudentID
+        // 1 = StudentName
+        // 2 = Major
+        // 3 = Year
+        // 4 = Email
 
-            students.add(new Student(id, name, major, year, email));
-        }
+        String id    = row.get(0);
+        String name  = row.get(1);
+        String major = row.get(2);
+        int year     = row.getInt(3);
+        String email = row.get(4);
 
-        return students;
+        return new Student(id, name, major, year, email);
     }
 }
@@ -1,21 +1,52 @@
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 public class SystemController {
 
-    private final UserManager userManager = new UserManager();
-    private final OpportunityManager opportunityManager = new OpportunityManager();
-    private final ApplicationManager applicationManager = new ApplicationManager();
-    private final Scanner scanner = new Scanner(System.in);
+    private final UserManager userManager;
+    private final OpportunityManager opportunityManager;
+    private final ApplicationManager applicationManager;
+    private final Scanner scanner;
+    private final StorageEngine storage;
+    private final EventBus events;
+    private final ClosingDateScheduler closingDateScheduler;
+    private final MetricsReporter metricsReporter;
+    private final boolean session; // one of many connections sharing another controller's data
 
     // Role-specific controllers
     private final StudentController studentController;
     private final StaffController staffController;
     private final CompanyRepController companyRepController;
 
-    // ================== CONSTRUCTOR ==================
+    // ================== CONSTRUCTORS ==================
+    // Console mode: loads the CSV files, opens saved data and reads from System.in
     public SystemController() {
+        this.userManager = new UserManager();
+        this.opportunityManager = new OpportunityManager();
+        this.applicationManager = new ApplicationManager();
+        this.scanner = new Scanner(System.in);
+        this.session = false;
+
         loadCsvData();
+        importSeedData();
+        // Loading and replay happen before the bus is connected, so they publish no events
+        this.events = new EventBus();
+        this.storage = openStorage();
+        loadAutoApprovalRules();
+        startEvents();
+        this.closingDateScheduler = new ClosingDateScheduler(opportunityManager);
+        closingDateScheduler.start();
+        this.metricsReporter = new MetricsReporter(
+                Path.of(System.getProperty("ims.dataDir", "data"), "metrics.log"));
+        metricsReporter.start();
 
         // Inject shared dependencies into role controllers
         this.studentController =
@@ -26,26 +57,194 @@ public class SystemController {
                 new CompanyRepController(scanner, userManager, opportunityManager, applicationManager);
     }
 
+    // Session mode (SessionServer): same managers and saved data as shared, its own input.
+    // Output goes to System.out, which SessionOutput routes to the session's connection.
+    public SystemController(Scanner scanner, SystemController shared) {
+        this.userManager = shared.userManager;
+        this.opportunityManager = shared.opportunityManager;
+        this.applicationManager = shared.applicationManager;
+        this.storage = shared.storage;
+        this.events = shared.events;
+        this.closingDateScheduler = shared.closingDateScheduler;
+        this.metricsReporter = shared.metricsReporter;
+        this.scanner = scanner;
+        this.session = true;
+
+        this.studentController =
+                new StudentController(scanner, userManager, opportunityManager, applicationManager);
+        this.staffController =
+                new StaffController(scanner, userManager, opportunityManager, applicationManager);
+        this.companyRepController =
+                new CompanyRepController(scanner, userManager, opportunityManager, applicationManager);
+    }
+
     // ================== CSV LOADING ==================
     private void loadCsvData() {
         String studentCsv = "sample_student_list.csv";
         String staffCsv   = "sample_staff_list.csv";
+        String repCsv     = "sample_company_representative_list.csv";
 
-        List<Student> students = StudentLoader.load(studentCsv);
-        for (Student s : students) {
-            userManager.addStudent(s);
+        if (!Boolean.parseBoolean(System.getProperty("ims.bulkLoad", "true"))) {
+            loadCsvDataSequentially(studentCsv, staffCsv, repCsv);
+            return;
         }
 
-        List<CareerCenterStaff> staff = StaffLoader.load(staffCsv);
-        for (CareerCenterStaff c : staff) {
-            userManager.addStaff(c);
-        }
+        // Bulk mode: the three files are parsed at the same time, large ones in parallel chunks
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        long started = System.nanoTime();
+
+        ForkJoinTask<BulkLoader.Result<Student>> studentTask =
+                pool.submit(BulkLoader.task(studentCsv, StudentLoader::fromRow));
+        ForkJoinTask<BulkLoader.Result<CareerCenterStaff>> staffTask =
+                pool.submit(BulkLoader.task(staffCsv, StaffLoader::fromRow));
+        ForkJoinTask<BulkLoader.Result<CompanyRepresentative>> repTask =
+                pool.submit(BulkLoader.task(repCsv, CompanyRepLoader::fromRow));
 
-        System.out.println("===== CSV LOAD COMPLETE =====");
-        System.out.println("Students           : " + students.size());
-        System.out.println("Company Reps       : " + userManager.getAllRepresentatives().size());
-        System.out.println("Career Center Staff: " + staff.size());
+        BulkLoader.Result<Student> students = studentTask.join();
+        BulkLoader.Result<CareerCenterStaff> staff = staffTask.join();
+        BulkLoader.Result<CompanyRepresentative> reps = repTask.join();
+
+        // Merged on this thread in a fixed order so duplicate IDs always resolve the same way
+        userManager.addStudents(students.getItems());
+        userManager.addStaffMembers(staff.getItems());
+        userManager.addRepresentatives(reps.getItems());
+
+        System.out.printf("===== CSV LOAD COMPLETE (%.1f ms, %d worker threads) =====%n",
+                (System.nanoTime() - started) / 1_000_000.0, pool.getParallelism());
+        printLoadLine(students.getFile(), students.getItems().size(), students.getElapsedNanos());
+        printLoadLine(staff.getFile(), staff.getItems().size(), staff.getElapsedNanos());
+        printLoadLine(reps.getFile(), reps.getItems().size(), reps.getElapsedNanos());
+        System.out.println("================================\n");
+        printProblems(students.getReport(), staff.getReport(), reps.getReport());
+    }
+
+    // Streams rows straight into the UserManager (constant memory, single thread)
+    private void loadCsvDataSequentially(String studentCsv, String staffCsv, String repCsv) {
+        long t0 = System.nanoTime();
+        ImportReport students = StudentLoader.load(studentCsv, userManager::addStudent);
+        long t1 = System.nanoTime();
+        ImportReport staff = StaffLoader.load(staffCsv, userManager::addStaff);
+        long t2 = System.nanoTime();
+        ImportReport reps = CompanyRepLoader.load(repCsv, userManager::addRepresentative);
+        long t3 = System.nanoTime();
+
+        System.out.printf("===== CSV LOAD COMPLETE (%.1f ms, sequential) =====%n", (t3 - t0) / 1_000_000.0);
+        printLoadLine(studentCsv, students.getImported(), t1 - t0);
+        printLoadLine(staffCsv, staff.getImported(), t2 - t1);
+        printLoadLine(repCsv, reps.getImported(), t3 - t2);
         System.out.println("================================\n");
+        printProblems(students, staff, reps);
+    }
+
+    // Internships and applications are optional seed files, loaded once the users they refer to exist.
+    // They are read on every start, so rows need their own IDs to match the saved copies.
+    private void importSeedData() {
+        String opportunityCsv = "sample_internship_list.csv";
+        String applicationCsv = "sample_application_list.csv";
+
+        if (Files.exists(Path.of(opportunityCsv))) {
+            printProblems(FileHandler.importOpportunities(opportunityCsv, userManager, opportunityManager, true));
+        }
+        if (Files.exists(Path.of(applicationCsv))) {
+            printProblems(FileHandler.importApplications(
+                    applicationCsv, userManager, opportunityManager, applicationManager, true));
+        }
+    }
+
+    private static void printProblems(ImportReport... reports) {
+        for (ImportReport report : reports) {
+            if (report.getSkipped() > 0) {
+                report.print();
+                System.out.println();
+            }
+        }
+    }
+
+    private static void printLoadLine(String file, long rows, long nanos) {
+        double rowsPerSec = nanos == 0 ? 0 : rows * 1_000_000_000.0 / nanos;
+        System.out.printf("%-42s %9d rows %9.1f ms %,14.0f rows/s%n",
+                file, rows, nanos / 1_000_000.0, rowsPerSec);
+    }
+
+    // ================== EVENTS ==================
+    // Persistence (subscribed in openStorage), metrics and notifications run on the bus's threads
+    private void startEvents() {
+        events.subscribe("metrics", new EventMetrics());
+        events.subscribe("notifications", new NotificationCenter(userManager));
+        events.publishChangesOf(userManager, opportunityManager, applicationManager);
+        events.start();
+    }
+
+    // Subscribers finish what was published (storage logs it) before storage takes its final snapshot
+    private void shutdown() {
+        closingDateScheduler.close();
+        events.close();
+        metricsReporter.close();
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    // ================== PERSISTENCE ==================
+    private void loadAutoApprovalRules() {
+        Path file = AutoApprovalRules.defaultFile();
+        try {
+            opportunityManager.setAutoApprovalRules(AutoApprovalRules.load(file));
+        } catch (IOException e) {
+            System.out.println("Could not read auto-approval rules from " + file + ": " + e.getMessage());
+            System.out.println("Auto-approval is off; every new posting waits for staff approval.\n");
+        }
+    }
+
+    // Replays saved changes (registrations, postings, applications, passwords) on top of the CSV data
+    private StorageEngine openStorage() {
+        Path dataDir = Path.of(System.getProperty("ims.dataDir", "data"));
+        StorageEngine engine =
+                new StorageEngine(dataDir, userManager, opportunityManager, applicationManager);
+        try {
+            int replayed = engine.open(events);
+            System.out.println("Restored " + replayed + " saved record(s) from " + dataDir + ".\n");
+        } catch (IOException e) {
+            System.out.println("Could not open saved data in " + dataDir + ": " + e.getMessage());
+            System.out.println("Changes made in this session will NOT be saved.\n");
+            return null;
+        }
+        // Flush the log if the JVM is stopped without using Quit (e.g. Ctrl+C)
+        Runtime.getRuntime().addShutdownHook(new Thread(engine::close, "storage-shutdown"));
+        return engine;
+    }
+
+    // ================== BATCH MODE ==================
+    // Runs a command file (format: InternshipService.Command) against the loaded data, no menus.
+    // Changes are saved like any session's.
+    public void runBatch(Path file) {
+        InternshipService service = new InternshipService(userManager, opportunityManager, applicationManager);
+        AtomicLong position = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+
+        try (Stream<String> lines = Files.lines(file)) {
+            Stream<InternshipService.Command> commands =
+                    lines.map(InternshipService.Command::parse).filter(Objects::nonNull);
+            InternshipService.BatchResult result = service.runBatch(commands::iterator, (command, outcome) -> {
+                long n = position.incrementAndGet();
+                if (!outcome.isOk() && failures.incrementAndGet() <= 20) {
+                    System.out.println("#" + n + " " + command.operation() + " "
+                            + String.join(" ", command.args()) + " -> " + outcome);
+                }
+            });
+
+            if (failures.get() > 20) {
+                System.out.println("... and " + (failures.get() - 20) + " more failure(s)");
+            }
+            double millis = result.getNanos() / 1_000_000.0;
+            System.out.printf("Ran %d command(s) from %s in %.1f ms (%.0f ops/s)%n", result.getTotal(), file,
+                    millis, result.getTotal() / Math.max(millis / 1000.0, 1e-9));
+            result.getCounts().forEach((status, count) -> System.out.printf("  %-14s %d%n", status, count));
+        } catch (IOException | UncheckedIOException e) {
+            System.out.println("Could not read batch file " + file + ": " + e.getMessage());
+        } finally {
+            shutdown();
+        }
     }
 
     //----------------------------------MAIN MENU----------------------------------
@@ -69,6 +268,10 @@ public class SystemController {
                 case 2 -> staffController.login();
                 case 3 -> companyRepController.showLoginOrRegisterMenu();
                 case 4 -> {
+                    // A session only ends its own connection; the server keeps the data open
+                    if (!session) {
+                        shutdown();
+                    }
                     System.out.println("Goodbye!");
                     return;
                 }
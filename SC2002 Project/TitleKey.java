@@ -0,0 +1,17 @@
+/**
+ * Sort key for title-ordered opportunity listings (OpportunityManager, EligibilityIndex):
+ * title case-insensitively, then the manager's insertion sequence so equal titles keep a
+ * stable order. Page cursors over those listings hold one of these.
+ */
+record TitleKey(String title, long sequence) implements Comparable<TitleKey> {
+
+    static TitleKey of(InternshipOpportunity opp, long sequence) {
+        return new TitleKey(opp.getTitle(), sequence);
+    }
+
+    @Override
+    public int compareTo(TitleKey other) {
+        int c = String.CASE_INSENSITIVE_ORDER.compare(title, other.title);
+        return c != 0 ? c : Long.compare(sequence, other.sequence);
+    }
+}
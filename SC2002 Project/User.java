@@ -1,10 +1,15 @@
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public abstract class User {
     private final String userID;
-    private String name;
-    private String email;
-    private String password;
+    private volatile String name;
+    private volatile String email;
+    private volatile String password;
+    private final List<UserListener> listeners = new CopyOnWriteArrayList<>();
+    // Unread notifications, newest last; not saved, and capped so an absent user cannot grow it forever
+    private final Deque<String> notifications = new ArrayDeque<>();
+    private static final int MAX_NOTIFICATIONS = 50;
 
     protected User(String userID, String name, String email) {
         this.userID = requireNonBlank(userID, "User ID");
@@ -35,9 +40,19 @@ public abstract class User {
             throw new IllegalArgumentException("Password cannot be empty");
         }
         this.password = newPassword.trim();
+        fireChanged();
         System.out.println("Password changed successfully.");
     }
 
+    // Only for the storage engine: read / restore the password without console output
+    String getPassword() {
+        return password;
+    }
+
+    void restorePassword(String password) {
+        this.password = Objects.requireNonNull(password);
+    }
+
     //check password
     public boolean checkPassword(String inputPassword) {
         return password != null && password.equals(inputPassword);
@@ -53,10 +68,48 @@ public abstract class User {
     //setters
     public void setName(String name) {
         this.name = requireNonBlank(name, "Name");
+        fireChanged();
     }
 
     public void setEmail(String email) {
         this.email = requireNonBlank(email, "Email");
+        fireChanged();
+    }
+
+    // notifications (added by NotificationCenter, shown by the controllers)
+    public void addNotification(String message) {
+        synchronized (notifications) {
+            if (notifications.size() == MAX_NOTIFICATIONS) {
+                notifications.removeFirst();
+            }
+            notifications.addLast(message);
+        }
+    }
+
+    /** Returns the unread notifications, oldest first, and clears them. */
+    public List<String> takeNotifications() {
+        synchronized (notifications) {
+            List<String> unread = new ArrayList<>(notifications);
+            notifications.clear();
+            return unread;
+        }
+    }
+
+    // listeners
+    public void addListener(UserListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeListener(UserListener listener) {
+        listeners.remove(listener);
+    }
+
+    protected void fireChanged() {
+        for (UserListener l : listeners) {
+            l.onUserChanged(this);
+        }
     }
 
     @Override
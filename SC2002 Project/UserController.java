@@ -1,11 +1,23 @@
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 public abstract class UserController {
 
+    // Rows per page in listings; -Dims.pageSize to change
+    protected static final int PAGE_SIZE = Math.max(1, Integer.getInteger("ims.pageSize", 20));
+
+    private static final Metrics.Timer LOGIN_TIMER = Metrics.timer("login.authenticate");
+    private static final Metrics.Counter LOGIN_FAILURES = Metrics.counter("login.failed");
+
     protected final Scanner scanner;
     protected final UserManager userManager;
     protected final OpportunityManager opportunityManager;
     protected final ApplicationManager applicationManager;
+    // Business operations; the controllers add the prompts and printing around them
+    protected final InternshipService service;
 
     protected UserController(Scanner scanner,
                              UserManager userManager,
@@ -15,6 +27,7 @@ public abstract class UserController {
         this.userManager = userManager;
         this.opportunityManager = opportunityManager;
         this.applicationManager = applicationManager;
+        this.service = new InternshipService(userManager, opportunityManager, applicationManager);
     }
 
     // Every concrete controller (StudentController, StaffController, CompanyRepController)
@@ -27,7 +40,13 @@ public abstract class UserController {
         System.out.print("Enter password (case-sensitive!): ");
         String pw = scanner.nextLine();
 
-        if (!user.checkPassword(pw)) {
+        // Timed from here: the wait for the password is the user's, not ours
+        long start = Metrics.start();
+        boolean ok = user.checkPassword(pw);
+        LOGIN_TIMER.stop(start);
+
+        if (!ok) {
+            LOGIN_FAILURES.increment();
             System.out.println("Incorrect password.");
             return false;
         }
@@ -59,6 +78,45 @@ public abstract class UserController {
 
     // --------- COMMON UTIL ----------
 
+    // New notifications (see NotificationCenter), shown once before the menu
+    protected void showNotifications(User user) {
+        List<String> unread = user.takeNotifications();
+        if (unread.isEmpty()) return;
+        System.out.println("\n===== Notifications (" + unread.size() + ") =====");
+        for (String message : unread) {
+            System.out.println("- " + message);
+        }
+    }
+
+    /**
+     * Prints a listing one page at a time, asking before fetching the next page.
+     * print gets each item with its 1-based position in the listing. Returns every
+     * item that was shown, so the caller can let the user pick one of them.
+     */
+    protected <T> List<T> pageThrough(Function<Page.Cursor, Page<T>> fetch, BiConsumer<Integer, T> print) {
+        List<T> shown = new ArrayList<>();
+        Page.Cursor cursor = null;
+        while (true) {
+            Page<T> page = fetch.apply(cursor);
+            for (T item : page.getItems()) {
+                shown.add(item);
+                print.accept(shown.size(), item);
+            }
+            if (!page.hasNext()) {
+                return shown;
+            }
+            System.out.print("-- Showing " + shown.size() + ". Enter n for more, or press Enter to continue: ");
+            if (!scanner.nextLine().trim().equalsIgnoreCase("n")) {
+                return shown;
+            }
+            cursor = page.getNext();
+        }
+    }
+
+    protected <T> List<T> pageThrough(Function<Page.Cursor, Page<T>> fetch) {
+        return pageThrough(fetch, (position, item) -> System.out.println(item));
+    }
+
     protected int readInt() {
         while (true) {
             String line = scanner.nextLine().trim();
@@ -0,0 +1,8 @@
+/**
+ * Callback fired whenever a user's stored details change (password, profile,
+ * approval, accepted placement). Listeners registered on UserManager also
+ * hear about newly added users.
+ */
+public interface UserListener {
+    void onUserChanged(User user);
+}
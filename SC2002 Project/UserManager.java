@@ -1,61 +1,168 @@
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Thread-safe user registry shared by every session.
+ *
+ * Each role has its own insertion-ordered list and ID index, all lock-free, so
+ * logins, registrations and loading never contend on one lock. claimedIDs makes
+ * "is this ID free? then register it" a single atomic step across all roles.
+ */
 public class UserManager {
 
-    private final List<Student> students = new ArrayList<>();
-    private final List<CompanyRepresentative> representatives = new ArrayList<>();
-    private final List<CareerCenterStaff> staffMembers = new ArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final PostingList<Student> students = new PostingList<>();
+    private final PostingList<CompanyRepresentative> representatives = new PostingList<>();
+    private final PostingList<CareerCenterStaff> staffMembers = new PostingList<>();
+
+    // Case-folded ID -> user, one index per role so typed lookups never need instanceof scans
+    private final Map<String, Student> studentIndex = new ConcurrentHashMap<>();
+    private final Map<String, CompanyRepresentative> representativeIndex = new ConcurrentHashMap<>();
+    private final Map<String, CareerCenterStaff> staffIndex = new ConcurrentHashMap<>();
+    private final Set<String> claimedIDs = ConcurrentHashMap.newKeySet();
+
+    private final List<UserListener> listeners = new CopyOnWriteArrayList<>();
+    private final UserListener forwarder = this::fireUserChanged;
 
     // ========== ADD USERS ==========
 
     public void addStudent(Student s) {
-        students.add(s);
+        String key = normalizeID(s.getUserID());
+        claimedIDs.add(key);
+        students.add(sequence.incrementAndGet(), s);
+        studentIndex.putIfAbsent(key, s);
+        track(s);
     }
 
     public void addRepresentative(CompanyRepresentative rep) {
-        representatives.add(rep);
+        String key = normalizeID(rep.getUserID());
+        claimedIDs.add(key);
+        representatives.add(sequence.incrementAndGet(), rep);
+        representativeIndex.putIfAbsent(key, rep);
+        track(rep);
     }
 
     public void addStaff(CareerCenterStaff staff) {
-        staffMembers.add(staff);
+        String key = normalizeID(staff.getUserID());
+        claimedIDs.add(key);
+        staffMembers.add(sequence.incrementAndGet(), staff);
+        staffIndex.putIfAbsent(key, staff);
+        track(staff);
     }
 
-    // ========== FIND USER BY ID (used for login) ==========
+    /**
+     * Adds a self-registered representative only if no user of any role has the ID yet.
+     * Two sessions registering the same ID at once: exactly one succeeds.
+     */
+    public boolean registerRepresentative(CompanyRepresentative rep) {
+        if (!claimedIDs.add(normalizeID(rep.getUserID()))) {
+            return false;
+        }
+        addRepresentative(rep);
+        return true;
+    }
 
-    public User findUserByID(String id) {
-        for (Student s : students) {
-            if (s.getUserID().equalsIgnoreCase(id)) {
-                return s;
-            }
+    // ========== ADD A BATCH ==========
+    // One by one: the lists are skip lists with no capacity to reserve, and presizing
+    // the ID indexes (ConcurrentHashMap.putAll) measured no faster than letting them grow
+
+    public void addStudents(Collection<Student> batch) {
+        for (Student s : batch) {
+            addStudent(s);
+        }
+    }
+
+    public void addRepresentatives(Collection<CompanyRepresentative> batch) {
+        for (CompanyRepresentative rep : batch) {
+            addRepresentative(rep);
         }
+    }
 
-        for (CompanyRepresentative rep : representatives) {
-            if (rep.getUserID().equalsIgnoreCase(id)) {
-                return rep;
-            }
+    public void addStaffMembers(Collection<CareerCenterStaff> batch) {
+        for (CareerCenterStaff staff : batch) {
+            addStaff(staff);
         }
+    }
+
+    // ========== LISTENERS ==========
+
+    // Listeners hear about every added user and every later change to one
+    public void addListener(UserListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    private void track(User user) {
+        user.addListener(forwarder);
+        fireUserChanged(user);
+    }
 
-        for (CareerCenterStaff staff : staffMembers) {
-            if (staff.getUserID().equalsIgnoreCase(id)) {
-                return staff;
-            }
+    private void fireUserChanged(User user) {
+        for (UserListener l : listeners) {
+            l.onUserChanged(user);
         }
+    }
+
+    // ========== FIND USER BY ID (used for login) ==========
+
+    public User findUserByID(String id) {
+        String key = normalizeID(id);
+        if (key == null) return null;
+
+        // Same precedence as before: students, then reps, then staff
+        User user = studentIndex.get(key);
+        if (user != null) return user;
+
+        user = representativeIndex.get(key);
+        if (user != null) return user;
+
+        return staffIndex.get(key); // null if not found
+    }
+
+    public Student findStudent(String id) {
+        String key = normalizeID(id);
+        return key == null ? null : studentIndex.get(key);
+    }
+
+    public CompanyRepresentative findRepresentative(String id) {
+        String key = normalizeID(id);
+        return key == null ? null : representativeIndex.get(key);
+    }
+
+    public CareerCenterStaff findStaff(String id) {
+        String key = normalizeID(id);
+        return key == null ? null : staffIndex.get(key);
+    }
+
+    public boolean containsUserID(String id) {
+        return findUserByID(id) != null;
+    }
 
-        return null; // not found
+    private static String normalizeID(String id) {
+        if (id == null) return null;
+        return id.trim().toLowerCase(Locale.ROOT);
     }
 
     // ========== GET LISTS (used by staff menu) ==========
+    // Point-in-time copies in registration order; additions must go through the add* methods
 
     public List<Student> getAllStudents() {
-        return students;
+        return students.snapshot();
     }
 
     public List<CompanyRepresentative> getAllRepresentatives() {
-        return representatives;
+        return representatives.snapshot();
     }
 
     public List<CareerCenterStaff> getAllStaff() {
-        return staffMembers;
+        return staffMembers.snapshot();
     }
-}
\ No newline at end of file
+}
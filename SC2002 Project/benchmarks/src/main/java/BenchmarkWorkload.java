@@ -0,0 +1,152 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.SplittableRandom;
+
+import bench.Workload;
+
+/** Workload backed by the real managers and controllers over a DataGenerator dataset. */
+public class BenchmarkWorkload implements Workload {
+
+    private static final String BENCH_STUDENT_ID = "BENCH";
+
+    private DataGenerator.Dataset data;
+    private StudentController studentController;
+    private final List<InternshipOpportunity> open = new ArrayList<>();
+    private final List<InternshipOpportunity> appliedTo = new ArrayList<>();
+    private InternshipOpportunity popular;
+
+    @Override
+    public void init(int users, int opportunities, long seed) {
+        data = DataGenerator.generate(users, opportunities, seed);
+        studentController = new StudentController(new Scanner(""), data.userManager,
+                data.opportunityManager, data.applicationManager);
+        for (InternshipOpportunity opp : data.opportunities) {
+            if (opp.isVisible() && opp.getStatus() == OpportunityStatus.APPROVED) {
+                open.add(opp);
+            }
+        }
+        // Some application paths still report to the console; keep that out of the measurements
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    // ===================== LOGIN =====================
+
+    @Override
+    public String[] sampleUserIDs(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            String id = data.userIDs.get(random.nextInt(data.userIDs.size()));
+            ids[i] = (i & 1) == 0 ? id : id.toUpperCase();
+        }
+        return ids;
+    }
+
+    @Override
+    public Object findUserByID(String id) {
+        return data.userManager.findUserByID(id);
+    }
+
+    // ===================== FILTERING =====================
+
+    @Override
+    public Object filterByStatus() {
+        return data.opportunityManager.filterOpportunities(OpportunityStatus.PENDING_APPROVAL, null, null, null);
+    }
+
+    @Override
+    public Object filterByStatusMajorLevel() {
+        return data.opportunityManager.filterOpportunities(
+                OpportunityStatus.APPROVED, DataGenerator.MAJORS[0], InternshipLevel.BASIC, null);
+    }
+
+    @Override
+    public Object filterByCompany() {
+        return data.opportunityManager.filterOpportunities(null, null, null, DataGenerator.COMPANIES[0]);
+    }
+
+    @Override
+    public int studentCount() {
+        return data.students.size();
+    }
+
+    @Override
+    public Object eligibleInternships(int studentIndex) {
+        return studentController.findEligibleInternshipsForStudent(data.students.get(studentIndex));
+    }
+
+    // ===================== APPLY =====================
+
+    @Override
+    public int openOpportunityCount() {
+        return open.size();
+    }
+
+    @Override
+    public boolean applyForInternship(int openOpportunityIndex) {
+        InternshipOpportunity opp = open.get(openOpportunityIndex);
+        Student student = new Student(BENCH_STUDENT_ID, "Bench Student", opp.getPreferredMajor(), 3,
+                "bench@e.ntu.edu.sg");
+        appliedTo.add(opp);
+        return student.submitApplication(opp).isOk();
+    }
+
+    @Override
+    public void discardBenchmarkApplications() {
+        for (InternshipOpportunity opp : appliedTo) {
+            for (InternshipApplication app : List.copyOf(opp.getApplications())) {
+                if (app.getStudent().getUserID().equals(BENCH_STUDENT_ID)) {
+                    opp.removeApplication(app);
+                }
+            }
+        }
+        appliedTo.clear();
+    }
+
+    // ===================== SLOTS =====================
+
+    @Override
+    public void preparePopularPosting(int applications) {
+        LocalDate today = LocalDate.now();
+        popular = new InternshipOpportunity("INT-POPULAR", "Popular", "", InternshipLevel.BASIC,
+                DataGenerator.MAJORS[0], "Acme", "rep0@company.com", 10, today, today.plusDays(30));
+        popular.setStatus(OpportunityStatus.APPROVED);
+
+        SplittableRandom random = new SplittableRandom(42);
+        Student student = new Student("U9999999S", "Student", DataGenerator.MAJORS[0], 3, "s@e.ntu.edu.sg");
+        for (int i = 0; i < applications; i++) {
+            // A few confirmed placements, never enough to fill the posting
+            ApplicationStatus status = i < 5 ? ApplicationStatus.CONFIRMED
+                    : random.nextBoolean() ? ApplicationStatus.PENDING : ApplicationStatus.UNSUCCESSFUL;
+            popular.addApplication(new InternshipApplication("APP-P" + i, student, popular, status, today));
+        }
+    }
+
+    @Override
+    public int recalculatePopularPosting() {
+        popular.recalculateSlotsAndStatus();
+        return popular.getSlotsAvailable();
+    }
+
+    // ===================== REPORTS =====================
+
+    @Override
+    public Object reportAll() {
+        return ReportEngine.aggregate(data.opportunityManager.streamOpportunities(null, null, null, null), false);
+    }
+
+    @Override
+    public Object reportAllParallel() {
+        return ReportEngine.aggregate(data.opportunityManager.streamOpportunities(null, null, null, null), true);
+    }
+
+    @Override
+    public Object reportApprovedForMajor() {
+        return ReportEngine.aggregate(data.opportunityManager.streamOpportunities(
+                OpportunityStatus.APPROVED, DataGenerator.MAJORS[0], null, null), false);
+    }
+}
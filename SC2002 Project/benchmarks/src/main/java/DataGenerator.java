@@ -0,0 +1,184 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Builds synthetic, reproducible datasets for the benchmarks.
+ *
+ * The same (users, opportunities, seed) always gives the same users, postings and
+ * applications. Dates are relative to today so the "not past closing date" checks
+ * keep selecting the same share of postings whenever the benchmarks are run.
+ *
+ * Run it directly to write the dataset as CSV files the application can import:
+ *
+ *   java -cp benchmarks.jar DataGenerator <outDir> <users> <opportunities> [seed]
+ */
+public class DataGenerator {
+
+    static final String[] MAJORS = {
+            "Computer Science", "Data Science & AI", "Computer Engineering", "Electrical Engineering",
+            "Mechanical Engineering", "Business", "Mathematics", "Physics"
+    };
+    static final String[] COMPANIES = {
+            "Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark Industries", "Wayne Enterprises",
+            "Wonka", "Cyberdyne", "Soylent", "Tyrell", "Aperture"
+    };
+
+    /** Everything a benchmark needs, wired the same way SystemController wires it. */
+    public static class Dataset {
+        public final UserManager userManager = new UserManager();
+        public final OpportunityManager opportunityManager = new OpportunityManager();
+        public final ApplicationManager applicationManager = new ApplicationManager();
+        public final List<Student> students = new ArrayList<>();
+        public final List<CompanyRepresentative> representatives = new ArrayList<>();
+        public final List<CareerCenterStaff> staff = new ArrayList<>();
+        public final List<InternshipOpportunity> opportunities = new ArrayList<>();
+        public final List<String> userIDs = new ArrayList<>();
+    }
+
+    private DataGenerator() {}
+
+    /**
+     * Users are split 90% students / 9% company reps / 1% staff. Each student gets one
+     * application (to a random posting of their major) so reports and slot counts have data.
+     */
+    public static Dataset generate(int users, int opportunities, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Dataset d = new Dataset();
+        LocalDate today = LocalDate.now();
+
+        int staffCount = Math.max(1, users / 100);
+        int repCount = Math.max(1, users * 9 / 100);
+        int studentCount = Math.max(1, users - staffCount - repCount);
+
+        for (int i = 0; i < studentCount; i++) {
+            String id = String.format("U%07dS", i);
+            d.students.add(new Student(id, "Student " + i, MAJORS[random.nextInt(MAJORS.length)],
+                    1 + random.nextInt(4), id.toLowerCase() + "@e.ntu.edu.sg"));
+            d.userIDs.add(id);
+        }
+        for (int i = 0; i < repCount; i++) {
+            String id = "rep" + i + "@company.com";
+            CompanyRepresentative rep = new CompanyRepresentative(id, "Rep " + i, id,
+                    COMPANIES[random.nextInt(COMPANIES.length)], "HR", "Recruiter");
+            rep.setApproved(random.nextInt(10) < 8);
+            d.representatives.add(rep);
+            d.userIDs.add(id);
+        }
+        for (int i = 0; i < staffCount; i++) {
+            String id = "staff" + i;
+            d.staff.add(new CareerCenterStaff(id, "Staff " + i, id + "@ntu.edu.sg", "CCDS"));
+            d.userIDs.add(id);
+        }
+        d.userManager.addStudents(d.students);
+        d.userManager.addRepresentatives(d.representatives);
+        d.userManager.addStaffMembers(d.staff);
+
+        // Postings by major, so each student's application goes to something they could apply for
+        List<List<InternshipOpportunity>> byMajor = new ArrayList<>();
+        for (int m = 0; m < MAJORS.length; m++) {
+            byMajor.add(new ArrayList<>());
+        }
+
+        InternshipLevel[] levels = InternshipLevel.values();
+        for (int i = 0; i < opportunities; i++) {
+            CompanyRepresentative rep = d.representatives.get(random.nextInt(d.representatives.size()));
+            int major = random.nextInt(MAJORS.length);
+            LocalDate opening = today.minusDays(30 + random.nextInt(60));
+            LocalDate closing = today.plusDays(random.nextInt(200) - 20); // ~10% already closed
+
+            InternshipOpportunity opp = new InternshipOpportunity(
+                    "INT-" + i, "Internship " + i, "Synthetic posting " + i,
+                    levels[random.nextInt(levels.length)], MAJORS[major], rep.getCompanyName(),
+                    rep.getUserID(), 1 + random.nextInt(10), opening, closing);
+
+            int roll = random.nextInt(100);
+            if (roll < 70) {
+                opp.setStatus(OpportunityStatus.APPROVED);
+                opp.setVisible(true);
+            } else if (roll < 85) {
+                opp.setStatus(OpportunityStatus.PENDING_APPROVAL);
+            } else {
+                opp.setStatus(OpportunityStatus.REJECTED);
+            }
+
+            d.opportunities.add(opp);
+            byMajor.get(major).add(opp);
+            d.opportunityManager.addOpportunity(opp);
+        }
+
+        ApplicationStatus[] statuses = {
+                ApplicationStatus.PENDING, ApplicationStatus.PENDING, ApplicationStatus.PENDING,
+                ApplicationStatus.SUCCESSFUL, ApplicationStatus.UNSUCCESSFUL, ApplicationStatus.CONFIRMED
+        };
+        int appSeq = 0;
+        for (Student s : d.students) {
+            List<InternshipOpportunity> candidates = byMajor.get(indexOf(MAJORS, s.getMajor()));
+            if (candidates.isEmpty()) continue;
+            InternshipOpportunity opp = candidates.get(random.nextInt(candidates.size()));
+
+            InternshipApplication app = new InternshipApplication("APP-" + appSeq++, s, opp,
+                    statuses[random.nextInt(statuses.length)], today.minusDays(random.nextInt(30)));
+            s.getApplications().add(app);
+            opp.addApplication(app);
+            d.applicationManager.addApplication(app);
+            if (app.getStatus() == ApplicationStatus.CONFIRMED) {
+                s.setAcceptedPlacement(app);
+            }
+        }
+        for (InternshipOpportunity opp : d.opportunities) {
+            opp.recalculateSlotsAndStatus();
+        }
+        return d;
+    }
+
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) return i;
+        }
+        return -1;
+    }
+
+    // ===================== CSV OUTPUT =====================
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("Usage: DataGenerator <outDir> <users> <opportunities> [seed]");
+            return;
+        }
+        Path out = Path.of(args[0]);
+        int users = Integer.parseInt(args[1]);
+        int opportunities = Integer.parseInt(args[2]);
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        Files.createDirectories(out);
+        Dataset d = generate(users, opportunities, seed);
+
+        try (CsvWriter w = new CsvWriter(out.resolve("sample_student_list.csv").toString())) {
+            w.writeRow("StudentID", "Name", "Major", "Year", "Email");
+            for (Student s : d.students) {
+                w.writeRow(s.getUserID(), s.getName(), s.getMajor(),
+                        String.valueOf(s.getYearOfStudy()), s.getEmail());
+            }
+        }
+        try (CsvWriter w = new CsvWriter(out.resolve("sample_staff_list.csv").toString())) {
+            w.writeRow("StaffID", "Name", "Role", "Department", "Email");
+            for (CareerCenterStaff s : d.staff) {
+                w.writeRow(s.getUserID(), s.getName(), "Career Center Staff", s.getDepartment(), s.getEmail());
+            }
+        }
+        FileHandler.exportCompanyReps(
+                out.resolve("sample_company_representative_list.csv").toString(), d.representatives);
+        FileHandler.exportOpportunities(out.resolve("sample_internship_list.csv").toString(), d.opportunities);
+        FileHandler.exportApplications(out.resolve("sample_application_list.csv").toString(),
+                d.applicationManager.getAllApplications());
+
+        System.out.printf("Wrote %d students, %d reps, %d staff, %d internships, %d applications to %s%n",
+                d.students.size(), d.representatives.size(), d.staff.size(), d.opportunities.size(),
+                d.applicationManager.getAllApplications().size(), out);
+    }
+}
@@ -0,0 +1,59 @@
+package bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Student.applyForInternship on open postings. Each call uses a fresh Year 3 student so
+ * the 3-application limit never kicks in; the applications added during an iteration
+ * are removed afterwards so postings do not grow without bound.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ApplyBenchmark {
+
+    @State(Scope.Thread)
+    public static class Postings {
+        int[] indexes;
+        int next;
+
+        @Setup(Level.Trial)
+        public void pick(DatasetState state) {
+            SplittableRandom random = new SplittableRandom(state.seed);
+            indexes = new int[1024];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = random.nextInt(state.workload.openOpportunityCount());
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void discard(DatasetState state) {
+            state.workload.discardBenchmarkApplications();
+        }
+
+        int nextPosting() {
+            return indexes[next++ & (indexes.length - 1)];
+        }
+    }
+
+    @Benchmark
+    public boolean apply(DatasetState state, Postings postings) {
+        return state.workload.applyForInternship(postings.nextPosting());
+    }
+}
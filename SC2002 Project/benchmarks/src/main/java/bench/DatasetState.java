@@ -0,0 +1,28 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared synthetic dataset: `size` users and `size` internship opportunities,
+ * generated once per trial with a fixed seed.
+ */
+@State(Scope.Benchmark)
+public class DatasetState {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"42"})
+    public long seed;
+
+    public Workload workload;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        workload = Workload.create(size, size, seed);
+    }
+}
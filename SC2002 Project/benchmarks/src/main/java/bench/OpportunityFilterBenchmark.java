@@ -0,0 +1,67 @@
+package bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Browsing paths: the staff report filter (OpportunityManager.filterOpportunities)
+ * and the student "eligible internships" list (StudentController).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class OpportunityFilterBenchmark {
+
+    @State(Scope.Thread)
+    public static class Students {
+        int[] indexes;
+        int next;
+
+        @Setup(Level.Trial)
+        public void pick(DatasetState state) {
+            SplittableRandom random = new SplittableRandom(state.seed);
+            indexes = new int[256];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = random.nextInt(state.workload.studentCount());
+            }
+        }
+
+        int nextStudent() {
+            return indexes[next++ & (indexes.length - 1)];
+        }
+    }
+
+    @Benchmark
+    public Object filterByStatus(DatasetState state) {
+        return state.workload.filterByStatus();
+    }
+
+    @Benchmark
+    public Object filterByStatusMajorLevel(DatasetState state) {
+        return state.workload.filterByStatusMajorLevel();
+    }
+
+    @Benchmark
+    public Object filterByCompany(DatasetState state) {
+        return state.workload.filterByCompany();
+    }
+
+    @Benchmark
+    public Object eligibleForStudent(DatasetState state, Students students) {
+        return state.workload.eligibleInternships(students.nextStudent());
+    }
+}
@@ -0,0 +1,35 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** The aggregation behind the staff "Generate Internship Reports" screen. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReportBenchmark {
+
+    @Benchmark
+    public Object reportAll(DatasetState state) {
+        return state.workload.reportAll();
+    }
+
+    @Benchmark
+    public Object reportAllParallel(DatasetState state) {
+        return state.workload.reportAllParallel();
+    }
+
+    @Benchmark
+    public Object reportApprovedForMajor(DatasetState state) {
+        return state.workload.reportApprovedForMajor();
+    }
+}
@@ -0,0 +1,46 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * InternshipOpportunity.recalculateSlotsAndStatus on one posting with many applications,
+ * which is what every confirm / withdrawal on a popular posting pays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SlotRecalculationBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int applications;
+
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Only the popular posting is measured, so the surrounding dataset can stay small
+        workload = Workload.create(1000, 1000, 42);
+        workload.preparePopularPosting(applications);
+    }
+
+    @Benchmark
+    public int recalculate() {
+        return workload.recalculatePopularPosting();
+    }
+}
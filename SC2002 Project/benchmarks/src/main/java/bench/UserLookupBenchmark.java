@@ -0,0 +1,49 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Login path: UserManager.findUserByID for existing IDs (mixed case) and misses. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UserLookupBenchmark {
+
+    @State(Scope.Thread)
+    public static class Keys {
+        String[] ids;
+        int next;
+
+        @Setup(Level.Trial)
+        public void pick(DatasetState state) {
+            ids = state.workload.sampleUserIDs(1024, state.seed);
+        }
+
+        String nextID() {
+            return ids[next++ & (ids.length - 1)];
+        }
+    }
+
+    @Benchmark
+    public Object findExisting(DatasetState state, Keys keys) {
+        return state.workload.findUserByID(keys.nextID());
+    }
+
+    @Benchmark
+    public Object findMissing(DatasetState state, Keys keys) {
+        return state.workload.findUserByID("X" + keys.nextID());
+    }
+}
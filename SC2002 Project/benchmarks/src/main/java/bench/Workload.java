@@ -0,0 +1,60 @@
+package bench;
+
+/**
+ * The operations the benchmarks measure.
+ *
+ * JMH needs benchmark classes in a named package, and a named package cannot refer
+ * to the application's default-package classes, so the calls go through this
+ * interface. The implementation (BenchmarkWorkload, default package) is loaded once;
+ * every call site sees a single implementation, so the JIT inlines straight through.
+ */
+public interface Workload {
+
+    /** Generates a dataset of the given size with DataGenerator. */
+    static Workload create(int users, int opportunities, long seed) {
+        try {
+            Workload w = (Workload) Class.forName("BenchmarkWorkload").getDeclaredConstructor().newInstance();
+            w.init(users, opportunities, seed);
+            return w;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("BenchmarkWorkload not on the classpath", e);
+        }
+    }
+
+    void init(int users, int opportunities, long seed);
+
+    /** Random sample of existing user IDs (some upper-cased, as users type them). */
+    String[] sampleUserIDs(int count, long seed);
+
+    Object findUserByID(String id);
+
+    Object filterByStatus();
+
+    Object filterByStatusMajorLevel();
+
+    Object filterByCompany();
+
+    int studentCount();
+
+    Object eligibleInternships(int studentIndex);
+
+    int openOpportunityCount();
+
+    /** A fresh Year 3 student applies to the index-th open posting. */
+    boolean applyForInternship(int openOpportunityIndex);
+
+    /** Removes every application added by applyForInternship. */
+    void discardBenchmarkApplications();
+
+    /** Builds one posting with the given number of applications for recalculatePopularPosting. */
+    void preparePopularPosting(int applications);
+
+    int recalculatePopularPosting();
+
+    Object reportAll();
+
+    /** reportAll with the aggregation split over a parallel stream. */
+    Object reportAllParallel();
+
+    Object reportApprovedForMajor();
+}